@@ -41,6 +41,10 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 
 	implementation("io.github.resilience4j:resilience4j-ratelimiter:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-retry:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-reactor:2.2.0")
 
 	// 검증
 	implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -54,6 +58,10 @@ dependencies {
 	// AOP
 	implementation("org.springframework.boot:spring-boot-starter-aop")
 
+	// 모니터링 (Prometheus 지표)
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
 	implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
 	implementation("me.paulschwarz:spring-dotenv:3.0.0")
 
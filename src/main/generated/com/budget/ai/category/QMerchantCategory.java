@@ -28,6 +28,10 @@ public class QMerchantCategory extends EntityPathBase<MerchantCategory> {
 
     public final StringPath merchantName = createString("merchantName");
 
+    public final StringPath normalizedMerchantKey = createString("normalizedMerchantKey");
+
+    public final EnumPath<MerchantCategorySource> source = createEnum("source", MerchantCategorySource.class);
+
     public QMerchantCategory(String variable) {
         this(MerchantCategory.class, forVariable(variable), INITS);
     }
@@ -30,6 +30,8 @@ public class QTransaction extends EntityPathBase<Transaction> {
 
     public final com.budget.ai.category.QCategory category;
 
+    public final EnumPath<CategorizationStatus> categorizationStatus = createEnum("categorizationStatus", CategorizationStatus.class);
+
     //inherited
     public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
@@ -41,6 +43,8 @@ public class QTransaction extends EntityPathBase<Transaction> {
 
     public final StringPath merchantName = createString("merchantName");
 
+    public final StringPath normalizedMerchantKey = createString("normalizedMerchantKey");
+
     public final StringPath originalMerchantId = createString("originalMerchantId");
 
     public final DateTimePath<java.time.LocalDateTime> transactionAt = createDateTime("transactionAt", java.time.LocalDateTime.class);
@@ -23,6 +23,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
 
+    /** actuator 전용 내부 포트 (토큰 검사 없음, 외부 비공개) */
+    private final int managementPort;
+
     private final List<PermitPass> PASS_PATHS = List.of(
             new PermitPass(HttpMethod.POST, "/api/auth/login"),
             new PermitPass(HttpMethod.POST, "/api/auth/refresh"),
@@ -34,9 +37,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             new PermitPass(null, "/swagger-resources/**"),
             new PermitPass(null, "/webjars/**"),
             new PermitPass(null, "/favicon.ico"),
-            new PermitPass(null, "/outer/transaction")
+            new PermitPass(HttpMethod.GET, "/actuator/health"),
+            new PermitPass(null, "/outer/transaction"),
+            new PermitPass(HttpMethod.GET, "/outer/transaction/stream")
     );
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getLocalPort() == managementPort;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
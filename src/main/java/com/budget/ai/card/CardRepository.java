@@ -1,6 +1,8 @@
 package com.budget.ai.card;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,4 +43,27 @@ public interface CardRepository extends JpaRepository<Card, Long> {
      * @return Card
      */
     Optional<Card> findByCardCompanyTypeAndCardNumberAndUserId(CardCompanyType cardCompanyType, String cardNumber, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 카드를 보유한 회원 ID 최솟값 조회 (동기화 배치 파티션 범위 계산용)
+     * @return 카드가 없으면 null
+     */
+    @Query("SELECT MIN(c.user.id) FROM Card c")
+    Long findMinUserId();
+
+    /**
+     * 카드를 보유한 회원 ID 최댓값 조회 (동기화 배치 파티션 범위 계산용)
+     * @return 카드가 없으면 null
+     */
+    @Query("SELECT MAX(c.user.id) FROM Card c")
+    Long findMaxUserId();
+
+    /**
+     * 범위 내 카드를 보유한 회원 ID 목록 조회
+     * @param minUserId 최소 회원 ID (포함)
+     * @param maxUserId 최대 회원 ID (포함)
+     * @return 회원 ID 오름차순 List
+     */
+    @Query("SELECT DISTINCT c.user.id FROM Card c WHERE c.user.id BETWEEN :minUserId AND :maxUserId ORDER BY c.user.id")
+    List<Long> findUserIdsBetween(@Param("minUserId") Long minUserId, @Param("maxUserId") Long maxUserId);
+}
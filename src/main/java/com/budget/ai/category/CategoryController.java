@@ -0,0 +1,90 @@
+package com.budget.ai.category;
+
+import com.budget.ai.category.dto.request.MerchantRecategorizeRequest;
+import com.budget.ai.category.dto.response.CategoryRefreshResponse;
+import com.budget.ai.category.dto.response.MerchantRecategorizeResponse;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.response.SuccessResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 카테고리 관련 Controller
+ * <p>
+ *     카테고리 레지스트리 갱신, 가맹점 카테고리 일괄 재분류 (관리자) 기능 포함
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/categories")
+public class CategoryController {
+
+    private static final String ADMIN_KEY_HEADER = "X-Admin-Key";
+
+    private final CategoryRegistry categoryRegistry;
+    private final MerchantRecategorizationService merchantRecategorizationService;
+
+    /** 관리자 키 (비어 있으면 관리자 기능 비활성화) */
+    private final String adminKey;
+
+    public CategoryController(CategoryRegistry categoryRegistry,
+                              MerchantRecategorizationService merchantRecategorizationService,
+                              @Value("${category.registry.admin-key:}") String adminKey) {
+        this.categoryRegistry = categoryRegistry;
+        this.merchantRecategorizationService = merchantRecategorizationService;
+        this.adminKey = adminKey;
+    }
+
+    @Operation(summary = "카테고리 레지스트리 갱신", description = "categories 를 다시 읽어 메모리 레지스트리를 교체합니다. (관리자)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "카테고리 레지스트리 갱신 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "403", description = "관리자 키 불일치"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<SuccessResponse<CategoryRefreshResponse>> refresh(
+            @RequestHeader(value = ADMIN_KEY_HEADER, required = false) String requestAdminKey) {
+
+        verifyAdminKey(requestAdminKey);
+
+        int categoryCount = categoryRegistry.refresh();
+
+        return ResponseEntity.ok(SuccessResponse.of(new CategoryRefreshResponse(categoryCount)));
+    }
+
+    @Operation(summary = "가맹점 카테고리 일괄 재분류",
+            description = "가맹점 키가 같은 매핑과 거래의 카테고리를 변경하고, 거래가 바뀐 회원의 통계 캐시만 무효화합니다. (관리자)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "가맹점 카테고리 일괄 재분류 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 오류, 가맹점 키를 만들 수 없는 이름"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "403", description = "관리자 키 불일치"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 카테고리"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+    })
+    @PatchMapping("/merchants")
+    public ResponseEntity<SuccessResponse<MerchantRecategorizeResponse>> recategorizeMerchant(
+            @RequestHeader(value = ADMIN_KEY_HEADER, required = false) String requestAdminKey,
+            @Valid @RequestBody MerchantRecategorizeRequest request) {
+
+        verifyAdminKey(requestAdminKey);
+
+        return ResponseEntity.ok(SuccessResponse.of(merchantRecategorizationService.recategorize(request)));
+    }
+
+    private void verifyAdminKey(String requestAdminKey) {
+        if (adminKey.isBlank() || requestAdminKey == null
+                || !MessageDigest.isEqual(adminKey.getBytes(StandardCharsets.UTF_8), requestAdminKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.INVALID_ADMIN_KEY);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.budget.ai.category;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 카테고리 레지스트리
+ * <p>
+ *     거의 바뀌지 않는 categories 를 시작 시 한 번 읽어 식별자 인덱스 배열과 코드 → 카테고리 Map으로 들고 있는다.
+ *     조회는 DB 없이 하고, 엔티티 대신 영속성 컨텍스트와 무관한 CategoryInfo 값을 돌려준다.
+ *     카테고리가 바뀌면 관리자 요청 (또는 주기 갱신) 으로 새 스냅샷을 만든 뒤 참조를 한 번에 교체한다.
+ * </p>
+ */
+@Component
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    public CategoryRegistry(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * 코드로 카테고리 조회
+     * @param code 카테고리 코드
+     * @return 카테고리, 없으면 empty
+     */
+    public Optional<CategoryInfo> findByCode(String code) {
+        return Optional.ofNullable(current().byCode().get(code));
+    }
+
+    /**
+     * 식별자로 카테고리 조회
+     * @param categoryId 카테고리 식별자
+     * @return 카테고리, 없으면 empty
+     */
+    public Optional<CategoryInfo> findById(Long categoryId) {
+        CategoryInfo[] byId = current().byId();
+
+        if (categoryId == null || categoryId < 0 || categoryId >= byId.length) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(byId[categoryId.intValue()]);
+    }
+
+    /**
+     * 전체 카테고리 조회 (식별자 오름차순)
+     */
+    public List<CategoryInfo> findAll() {
+        return current().all();
+    }
+
+    /**
+     * 카테고리 다시 읽어 스냅샷 교체
+     * @return 읽은 카테고리 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${category.registry.refresh-interval-ms:3600000}",
+            initialDelayString = "${category.registry.refresh-interval-ms:3600000}")
+    public int refresh() {
+        return reload().all().size();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<CategoryInfo> all = categoryRepository.findAll().stream()
+                .map(category -> new CategoryInfo(category.getId(), category.getCode(), category.getDisplayName()))
+                .sorted(Comparator.comparing(CategoryInfo::id))
+                .toList();
+
+        int maxId = all.isEmpty() ? -1 : all.get(all.size() - 1).id().intValue();
+        CategoryInfo[] byId = new CategoryInfo[maxId + 1];
+        Map<String, CategoryInfo> byCode = new HashMap<>();
+
+        for (CategoryInfo info : all) {
+            byId[info.id().intValue()] = info;
+            byCode.put(info.code(), info);
+        }
+
+        Snapshot reloaded = new Snapshot(byId, Map.copyOf(byCode), all);
+        this.snapshot = reloaded;
+
+        return reloaded;
+    }
+
+    /**
+     * 카테고리 값 (엔티티와 달리 영속성 컨텍스트와 무관하게 공유)
+     * @param id          카테고리 식별자
+     * @param code        카테고리 코드
+     * @param displayName 카테고리 이름
+     */
+    public record CategoryInfo(Long id, String code, String displayName) {
+    }
+
+    private record Snapshot(CategoryInfo[] byId, Map<String, CategoryInfo> byCode, List<CategoryInfo> all) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.budget.ai.category;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI가 분류한 가맹점 카테고리 저장소
+ * <p>
+ *     OpenAI 분류 결과를 정규화 키로 merchant_categories (source = AI) 에 기록해 전체 사용자가 재사용한다.
+ *     조회는 가맹점 키 (지점명·매장 번호 제거) 기준으로 프로세스 내 LRU → DB 인덱스 순서로 하므로
+ *     한 지점의 분류 결과를 같은 브랜드의 다른 지점도 재사용한다. 적중/미적중 건수(category.learned.lookups, result 태그)로
+ *     절약한 OpenAI 호출 수를 /actuator/prometheus 에서 확인할 수 있다.
+ * </p>
+ */
+@Component
+public class LearnedMerchantCategoryStore {
+
+    /** merchant_name, normalized_merchant_key 컬럼 길이 */
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final MerchantCategoryRepository merchantCategoryRepository;
+
+    /** 가맹점 키 → 카테고리 식별자 (접근 순서 기준 LRU) */
+    private final Map<String, Long> cache;
+
+    /** LRU 적중 건수 */
+    private final AtomicLong cacheHitCount = new AtomicLong();
+
+    /** DB 적중 건수 */
+    private final AtomicLong storeHitCount = new AtomicLong();
+
+    /** 미적중 건수 (OpenAI 분류 필요) */
+    private final AtomicLong missCount = new AtomicLong();
+
+    public LearnedMerchantCategoryStore(MerchantCategoryRepository merchantCategoryRepository,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${category.learned.cache-size:10000}") int cacheSize) {
+        this.merchantCategoryRepository = merchantCategoryRepository;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        // 적중(cache_hit, store_hit) 합계가 절약한 OpenAI 분류 건수
+        registerLookupCounter(meterRegistry, "cache_hit", cacheHitCount);
+        registerLookupCounter(meterRegistry, "store_hit", storeHitCount);
+        registerLookupCounter(meterRegistry, "miss", missCount);
+    }
+
+    private void registerLookupCounter(MeterRegistry meterRegistry, String result, AtomicLong count) {
+        FunctionCounter.builder("category.learned.lookups", count, AtomicLong::get)
+                .description("학습된 가맹점 카테고리 조회 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 학습된 카테고리 일괄 조회
+     * <p>
+     *     LRU에 없는 키만 모아 한 번의 쿼리로 조회하고, 조회된 키는 LRU에 올린다.
+     *     같은 브랜드의 다른 지점이 따로 분류되어 한 키에 AI 행이 여럿이면 가장 최근에 기록한 행의 카테고리를 쓴다.
+     * </p>
+     * @param merchantNames 가맹점 이름 목록
+     * @return 가맹점 이름 → 카테고리 식별자 (학습되지 않은 가맹점은 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> findCategoryIds(Collection<String> merchantNames) {
+        Map<String, Long> result = new HashMap<>();
+        Map<String, List<String>> missedNamesByKey = new HashMap<>();
+
+        for (String merchantName : merchantNames) {
+            String key = MerchantNameNormalizer.toMerchantKey(merchantName);
+
+            if (key == null) {
+                missCount.incrementAndGet();
+                continue;
+            }
+
+            Long categoryId = cache.get(key);
+
+            if (categoryId != null) {
+                cacheHitCount.incrementAndGet();
+                result.put(merchantName, categoryId);
+            } else {
+                missedNamesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(merchantName);
+            }
+        }
+
+        if (missedNamesByKey.isEmpty()) {
+            return result;
+        }
+
+        List<MerchantCategory> learnedList = merchantCategoryRepository.findAllByMerchantKeyInAndSource(
+                missedNamesByKey.keySet(), MerchantCategorySource.AI);
+
+        for (MerchantCategory learned : learnedList) {
+            String key = learned.getNormalizedMerchantKey();
+            List<String> names = missedNamesByKey.remove(key);
+
+            // 최신 행이 먼저 오므로 같은 키의 이전 행은 무시
+            if (names == null) {
+                continue;
+            }
+
+            Long categoryId = learned.getCategory().getId();
+            cache.put(key, categoryId);
+            storeHitCount.addAndGet(names.size());
+            names.forEach(name -> result.put(name, categoryId));
+        }
+
+        missedNamesByKey.values().forEach(names -> missCount.addAndGet(names.size()));
+
+        return result;
+    }
+
+    /**
+     * AI 분류 결과 기록
+     * <p>
+     *     다른 동기화가 먼저 기록한 가맹점 이름은 기존 행을 유지한다.
+     * </p>
+     * @param categoryIdByMerchantName 가맹점 이름 → 카테고리 식별자
+     */
+    @Transactional
+    public void save(Map<String, Long> categoryIdByMerchantName) {
+        categoryIdByMerchantName.forEach((merchantName, categoryId) -> {
+            String name = MerchantNameNormalizer.normalize(merchantName);
+            String key = MerchantNameNormalizer.toMerchantKey(merchantName);
+
+            // NFKC 정규화로 키가 이름보다 길어질 수 있으므로 둘 다 확인
+            if (key == null || key.length() > MAX_KEY_LENGTH || name.length() > MAX_KEY_LENGTH) {
+                return;
+            }
+
+            merchantCategoryRepository.insertIfAbsent(categoryId, name, key, MerchantCategorySource.AI.name());
+            cache.put(key, categoryId);
+        });
+    }
+
+    /**
+     * 가맹점 키의 카테고리 수정
+     * <p>
+     *     같은 가맹점 키의 AI 분류 결과를 모두 바꾸고, 없으면 AI 분류 결과로 새로 기록한다.
+     *     관리자가 정한 초기 등록 패턴 (source = SEED) 은 바꾸지 않는다.
+     *     다른 서버의 LRU는 LRU에서 밀려날 때까지 이전 카테고리를 반환할 수 있다.
+     * </p>
+     * @param merchantKey 가맹점 키
+     * @param categoryId  수정할 카테고리 식별자
+     * @return 수정·기록한 매핑 수
+     */
+    @Transactional
+    public int correct(String merchantKey, Long categoryId) {
+        int updatedCount = merchantCategoryRepository.updateCategoryByMerchantKeyAndSource(categoryId, merchantKey,
+                MerchantCategorySource.AI.name());
+
+        if (updatedCount == 0) {
+            merchantCategoryRepository.insertIfAbsent(categoryId, merchantKey, merchantKey, MerchantCategorySource.AI.name());
+            updatedCount = 1;
+        }
+
+        cache.put(merchantKey, categoryId);
+
+        return updatedCount;
+    }
+}
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "merchant_categories",
-        uniqueConstraints = @UniqueConstraint(name = "uq_merchant_name", columnNames = "merchant_name"))
+        uniqueConstraints = @UniqueConstraint(name = "uk_merchant_name", columnNames = "merchant_name"),
+        indexes = @Index(name = "idx_merchant_categories_key", columnList = "normalized_merchant_key, source"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MerchantCategory {
@@ -25,7 +26,15 @@ public class MerchantCategory {
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
-    /** 매장 이름 패턴 */
-    @Column(nullable = false, length = 100)
+    /** 매장 이름 패턴 (AI 분류 결과는 정규화된 가맹점 이름) */
+    @Column(nullable = false)
     private String merchantName;
+
+    /** 가맹점 키 ({@link MerchantNameNormalizer#toMerchantKey(String)}) */
+    private String normalizedMerchantKey;
+
+    /** 매핑 출처 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MerchantCategorySource source;
 }
@@ -0,0 +1,216 @@
+package com.budget.ai.category;
+
+import com.budget.ai.transaction.TransactionRepository;
+import com.budget.ai.transaction.dto.MerchantCategorySample;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가맹점 카테고리 로컬 분류기 (OpenAI 이전 단계)
+ * <p>
+ *     merchant_categories (초기 등록·AI 분류) 와 카테고리가 지정된 거래의 가맹점 이름으로 {@link MerchantNaiveBayesModel} 을 학습한다.
+ *     신뢰도가 기준 이상인 예측만 사용하고, 나머지는 OpenAI로 넘긴다. OpenAI 분류 결과는 바로 모델에 더해지고,
+ *     주기적인 전체 재학습으로 다른 서버의 분류 결과도 반영된다.
+ *     학습 샘플이 최소 개수보다 적으면 예측하지 않는다.
+ * </p>
+ * <p>
+ *     예측·OpenAI 전달·일치 건수와 일치율은 category.classifier.* 지표로 /actuator/prometheus 에 노출한다.
+ * </p>
+ */
+@Component
+public class MerchantCategoryClassifier {
+
+    private final MerchantCategoryRepository merchantCategoryRepository;
+    private final TransactionRepository transactionRepository;
+
+    /** 예측 사용 최소 신뢰도 */
+    private final double confidenceThreshold;
+
+    /** 예측에 필요한 최소 학습 샘플 수 */
+    private final int minTrainingSize;
+
+    /** 재학습 시 거래에서 가져오는 최대 샘플 수 */
+    private final int transactionSampleLimit;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MerchantNaiveBayesModel model = new MerchantNaiveBayesModel();
+
+    /** 신뢰도 기준 이상 예측 건수 (절약한 OpenAI 분류 건수) */
+    private final AtomicLong predictedCount = new AtomicLong();
+
+    /** 신뢰도 미달 또는 예측 불가로 OpenAI에 넘긴 건수 */
+    private final AtomicLong fallThroughCount = new AtomicLong();
+
+    /** 신뢰도 미달 예측 중 OpenAI 결과와 비교한 건수 */
+    private final AtomicLong comparedCount = new AtomicLong();
+
+    /** 신뢰도 미달 예측 중 OpenAI 결과와 일치한 건수 */
+    private final AtomicLong agreedCount = new AtomicLong();
+
+    public MerchantCategoryClassifier(MerchantCategoryRepository merchantCategoryRepository,
+                                      TransactionRepository transactionRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${category.classifier.confidence-threshold:0.9}") double confidenceThreshold,
+                                      @Value("${category.classifier.min-training-size:50}") int minTrainingSize,
+                                      @Value("${category.classifier.transaction-sample-limit:50000}") int transactionSampleLimit) {
+        this.merchantCategoryRepository = merchantCategoryRepository;
+        this.transactionRepository = transactionRepository;
+        this.confidenceThreshold = confidenceThreshold;
+        this.minTrainingSize = minTrainingSize;
+        this.transactionSampleLimit = transactionSampleLimit;
+
+        registerMetrics(meterRegistry);
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("category.classifier.predicted", predictedCount, AtomicLong::get)
+                .description("신뢰도 기준 이상 로컬 예측 건수 (절약한 OpenAI 분류 건수)")
+                .register(meterRegistry);
+        FunctionCounter.builder("category.classifier.fall-through", fallThroughCount, AtomicLong::get)
+                .description("신뢰도 미달 또는 예측 불가로 OpenAI에 넘긴 건수")
+                .register(meterRegistry);
+        FunctionCounter.builder("category.classifier.compared", comparedCount, AtomicLong::get)
+                .description("신뢰도 미달 예측 중 OpenAI 결과와 비교한 건수")
+                .register(meterRegistry);
+        FunctionCounter.builder("category.classifier.agreed", agreedCount, AtomicLong::get)
+                .description("신뢰도 미달 예측 중 OpenAI 결과와 일치한 건수")
+                .register(meterRegistry);
+
+        // 비교 건수가 없으면 0
+        Gauge.builder("category.classifier.agreement-rate", this,
+                        classifier -> classifier.comparedCount.get() == 0
+                                ? 0
+                                : (double) classifier.agreedCount.get() / classifier.comparedCount.get())
+                .description("신뢰도 미달 예측과 OpenAI 결과의 일치율")
+                .register(meterRegistry);
+        Gauge.builder("category.classifier.samples", this, MerchantCategoryClassifier::sampleCount)
+                .description("현재 모델 학습 샘플 수")
+                .register(meterRegistry);
+    }
+
+    private double sampleCount() {
+        lock.readLock().lock();
+        try {
+            return model.sampleCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가맹점 카테고리 일괄 예측
+     * @param merchantNames 학습된 분류 결과가 없는 가맹점 이름
+     * @return 가맹점 이름 → 예측 (신뢰도 미달 예측 포함, 예측 불가 가맹점은 포함되지 않음)
+     */
+    public Map<String, Prediction> predict(Collection<String> merchantNames) {
+        Map<String, Prediction> predictionByName = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            boolean trained = model.sampleCount() >= minTrainingSize;
+
+            for (String merchantName : merchantNames) {
+                if (!trained) {
+                    fallThroughCount.incrementAndGet();
+                    continue;
+                }
+
+                model.predict(merchantName).ifPresentOrElse(
+                        prediction -> {
+                            boolean confident = prediction.confidence() >= confidenceThreshold;
+                            (confident ? predictedCount : fallThroughCount).incrementAndGet();
+                            predictionByName.put(merchantName,
+                                    new Prediction(prediction.categoryId(), prediction.confidence(), confident));
+                        },
+                        fallThroughCount::incrementAndGet
+                );
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return predictionByName;
+    }
+
+    /**
+     * OpenAI 분류 결과 학습
+     * <p>
+     *     신뢰도 미달로 넘긴 예측이 있으면 OpenAI 결과와 일치 여부를 기록한 뒤 모델에 더한다.
+     * </p>
+     * @param categoryIdByMerchantName 가맹점 이름 → OpenAI가 지정한 카테고리 식별자
+     * @param predictionByName         같은 가맹점에 대한 로컬 예측
+     */
+    public void learn(Map<String, Long> categoryIdByMerchantName, Map<String, Prediction> predictionByName) {
+        categoryIdByMerchantName.forEach((merchantName, categoryId) -> {
+            Prediction prediction = predictionByName.get(merchantName);
+
+            if (prediction != null && !prediction.confident()) {
+                comparedCount.incrementAndGet();
+
+                if (prediction.categoryId().equals(categoryId)) {
+                    agreedCount.incrementAndGet();
+                }
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            categoryIdByMerchantName.forEach(model::learn);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재학습 후 모델 교체
+     * <p>
+     *     애플리케이션 시작 시와 주기적으로 호출된다. 재학습 중 추가된 학습 결과는 다음 재학습에서 반영된다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${category.classifier.retrain-interval-ms:3600000}",
+            initialDelayString = "${category.classifier.retrain-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void retrain() {
+        MerchantNaiveBayesModel retrained = new MerchantNaiveBayesModel();
+
+        for (MerchantCategorySource source : MerchantCategorySource.values()) {
+            merchantCategoryRepository.findAllWithCategoryBySource(source)
+                    .forEach(mc -> retrained.learn(mc.getMerchantName(), mc.getCategory().getId()));
+        }
+
+        transactionRepository.findMerchantCategorySamples(PageRequest.of(0, transactionSampleLimit))
+                .forEach(sample -> retrained.learn(sample.merchantName(), sample.categoryId()));
+
+        lock.writeLock().lock();
+        try {
+            this.model = retrained;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 로컬 예측
+     * @param categoryId 예측 카테고리 식별자
+     * @param confidence 신뢰도 (0~1)
+     * @param confident  신뢰도 기준 이상 여부 (true면 OpenAI 없이 사용)
+     */
+    public record Prediction(Long categoryId, double confidence, boolean confident) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.budget.ai.category;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 가맹점 이름 → 카테고리 매칭 컴포넌트
+ * <p>
+ *     merchant_categories 의 초기 등록 패턴을 메모리의 오토마타로 올려두고 DB 조회 없이 매칭한다.
+ *     AI 분류 결과는 정규화 키 단위로 {@link LearnedMerchantCategoryStore} 에서 조회한다.
+ *     매핑이 바뀌면 refresh()로 새 오토마타를 만든 뒤 참조를 한 번에 교체한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MerchantCategoryMatcher {
+
+    private final MerchantCategoryRepository merchantCategoryRepository;
+
+    private volatile MerchantPatternAutomaton automaton;
+
+    /**
+     * 가맹점 이름에 포함된 가장 긴 매장 이름 패턴 조회
+     * @param merchantName 가맹점 이름
+     * @return 매칭된 패턴, 없으면 empty
+     */
+    public Optional<MerchantPatternAutomaton.Entry> match(String merchantName) {
+        MerchantPatternAutomaton current = automaton;
+
+        if (current == null) {
+            current = rebuild();
+        }
+
+        return current.match(merchantName);
+    }
+
+    /**
+     * 매장-카테고리 매핑으로 오토마타 재구성 후 교체
+     * <p>
+     *     애플리케이션 시작 시, 주기적으로(다중 노드 반영), 매핑 변경 직후 호출된다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${category.matcher.refresh-interval-ms:300000}",
+            initialDelayString = "${category.matcher.refresh-interval-ms:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    private synchronized MerchantPatternAutomaton rebuild() {
+        List<MerchantPatternAutomaton.Entry> entryList = merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED).stream()
+                .map(mc -> new MerchantPatternAutomaton.Entry(mc.getId(), mc.getMerchantName(), mc.getCategory().getId()))
+                .toList();
+
+        MerchantPatternAutomaton rebuilt = MerchantPatternAutomaton.build(entryList);
+        this.automaton = rebuilt;
+
+        return rebuilt;
+    }
+}
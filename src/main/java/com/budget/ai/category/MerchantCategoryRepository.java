@@ -1,10 +1,12 @@
 package com.budget.ai.category;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface MerchantCategoryRepository extends JpaRepository<MerchantCategory, Long> {
 
@@ -12,7 +14,52 @@ public interface MerchantCategoryRepository extends JpaRepository<MerchantCatego
         SELECT mc
         FROM MerchantCategory mc
         JOIN FETCH mc.category c
-        WHERE :merchantName LIKE CONCAT('%', mc.merchantName, '%') 
+        WHERE mc.source = :source
     """)
-    Optional<MerchantCategory> findByMerchantNameLike(@Param("merchantName") String merchantName);
+    List<MerchantCategory> findAllWithCategoryBySource(@Param("source") MerchantCategorySource source);
+
+    @Query("""
+        SELECT mc
+        FROM MerchantCategory mc
+        JOIN FETCH mc.category c
+        WHERE mc.merchantName IN :merchantNames
+        AND mc.source = :source
+    """)
+    List<MerchantCategory> findAllByMerchantNameInAndSource(@Param("merchantNames") Collection<String> merchantNames,
+                                                            @Param("source") MerchantCategorySource source);
+
+    // 같은 키의 행이 여럿이면 최신 행이 먼저 오도록 id 역순 정렬
+    @Query("""
+        SELECT mc
+        FROM MerchantCategory mc
+        JOIN FETCH mc.category c
+        WHERE mc.normalizedMerchantKey IN :merchantKeys
+        AND mc.source = :source
+        ORDER BY mc.id DESC
+    """)
+    List<MerchantCategory> findAllByMerchantKeyInAndSource(@Param("merchantKeys") Collection<String> merchantKeys,
+                                                           @Param("source") MerchantCategorySource source);
+
+    @Modifying
+    @Query(value = """
+        UPDATE merchant_categories
+        SET category_id = :categoryId
+        WHERE normalized_merchant_key = :merchantKey
+        AND source = :source
+    """, nativeQuery = true)
+    int updateCategoryByMerchantKeyAndSource(@Param("categoryId") Long categoryId,
+                                             @Param("merchantKey") String merchantKey,
+                                             @Param("source") String source);
+
+    // 같은 가맹점 이름 (uk_merchant_name) 이 있으면 기존 행 유지, 외래 키 위반 등 다른 오류는 그대로 발생
+    @Modifying
+    @Query(value = """
+        INSERT INTO merchant_categories (category_id, merchant_name, normalized_merchant_key, source)
+        VALUES (:categoryId, :merchantName, :merchantKey, :source)
+        ON DUPLICATE KEY UPDATE id = id
+    """, nativeQuery = true)
+    void insertIfAbsent(@Param("categoryId") Long categoryId,
+                        @Param("merchantName") String merchantName,
+                        @Param("merchantKey") String merchantKey,
+                        @Param("source") String source);
 }
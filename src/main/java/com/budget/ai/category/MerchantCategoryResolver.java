@@ -0,0 +1,117 @@
+package com.budget.ai.category;
+
+import com.budget.ai.external.openai.OpenAIService;
+import com.budget.ai.external.openai.dto.CategoryChoices;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 초기 등록 패턴으로 매칭되지 않은 가맹점 카테고리 지정
+ * <p>
+ *     학습된 분류 결과 → 로컬 분류기 (신뢰도 기준 이상) 순서로 DB·메모리에서 먼저 지정하고,
+ *     남은 가맹점만 OpenAI API로 한 번에 분류한다. OpenAI 분류 결과는 학습된 분류 결과로 기록하고 로컬 분류기에 더한다.
+ *     동기화 경로는 로컬 단계만 쓰고, OpenAI 분류는 동기화 직후 또는 백그라운드 분류에서 호출한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MerchantCategoryResolver {
+
+    private final LearnedMerchantCategoryStore learnedMerchantCategoryStore;
+    private final MerchantCategoryClassifier merchantCategoryClassifier;
+    private final CategoryRegistry categoryRegistry;
+    private final OpenAIService openAIService;
+
+    /**
+     * 학습된 분류 결과와 로컬 분류기로 카테고리 지정 (원격 호출 없음)
+     * @param merchantNames 초기 등록 패턴으로 매칭되지 않은 가맹점 이름
+     * @return 지정된 카테고리, 남은 가맹점과 그 로컬 예측
+     */
+    public LocalResolution resolveLocally(Collection<String> merchantNames) {
+        if (merchantNames.isEmpty()) {
+            return new LocalResolution(Map.of(), new LinkedHashSet<>(), Map.of());
+        }
+
+        // 1. 학습된 분류 결과 조회
+        Map<String, Long> categoryIds = new HashMap<>(learnedMerchantCategoryStore.findCategoryIds(merchantNames));
+
+        Set<String> unresolvedNames = new LinkedHashSet<>(merchantNames);
+        unresolvedNames.removeAll(categoryIds.keySet());
+
+        // 2. 학습되지 않은 가맹점은 로컬 분류기로 예측 (신뢰도 기준 이상만 사용)
+        Map<String, MerchantCategoryClassifier.Prediction> predictionByName = unresolvedNames.isEmpty()
+                ? Map.of()
+                : merchantCategoryClassifier.predict(unresolvedNames);
+
+        predictionByName.forEach((merchantName, prediction) -> {
+            if (prediction.confident()) {
+                categoryIds.put(merchantName, prediction.categoryId());
+                unresolvedNames.remove(merchantName);
+            }
+        });
+
+        return new LocalResolution(categoryIds, unresolvedNames, predictionByName);
+    }
+
+    /**
+     * OpenAI API 일괄 호출로 가맹점 카테고리 지정 후 분류 결과 기록·로컬 분류기 학습
+     * <p>
+     *     OpenAI 를 사용할 수 없어 임시 카테고리로 채워진 결과는 기록·학습하지 않고 임시 결과로 반환한다.
+     * </p>
+     * @param merchantNames    로컬 단계에서 지정되지 않은 가맹점 이름
+     * @param predictionByName 같은 가맹점에 대한 로컬 예측 (신뢰도 미달, 일치율 기록용)
+     * @return 가맹점 이름 → 카테고리 식별자, 임시 결과 여부
+     */
+    public AIResolution classifyByAI(Set<String> merchantNames,
+                                     Map<String, MerchantCategoryClassifier.Prediction> predictionByName) {
+        if (merchantNames.isEmpty()) {
+            return new AIResolution(Map.of(), false);
+        }
+
+        CategoryChoices choices = openAIService.chooseCategories(merchantNames);
+
+        Map<String, Long> aiCategoryIds = new HashMap<>();
+
+        // 카테고리 코드 → 식별자는 메모리 레지스트리에서 조회 (DB 조회 없음)
+        for (Map.Entry<String, String> entry : choices.categoryCodes().entrySet()) {
+            CategoryRegistry.CategoryInfo category = categoryRegistry.findByCode(entry.getValue())
+                    .orElseThrow(() -> new CustomException(ErrorCode.API_CALL_WRONG_ANSWER));
+
+            aiCategoryIds.put(entry.getKey(), category.id());
+        }
+
+        if (choices.provisional()) {
+            return new AIResolution(aiCategoryIds, true);
+        }
+
+        // AI 분류 결과 기록 (다음 동기화부터 전체 사용자가 재사용) 후 로컬 분류기에 학습
+        if (!aiCategoryIds.isEmpty()) {
+            learnedMerchantCategoryStore.save(aiCategoryIds);
+            merchantCategoryClassifier.learn(aiCategoryIds, predictionByName);
+        }
+
+        return new AIResolution(aiCategoryIds, false);
+    }
+
+    /**
+     * 로컬 단계 카테고리 지정 결과
+     * @param categoryIds      가맹점 이름 → 카테고리 식별자 (학습된 분류 결과, 신뢰도 기준 이상 예측)
+     * @param unresolvedNames  지정되지 않은 가맹점 이름 (OpenAI 분류 대상)
+     * @param predictionByName 가맹점 이름 → 로컬 예측 (신뢰도 미달 포함)
+     */
+    public record LocalResolution(Map<String, Long> categoryIds, Set<String> unresolvedNames,
+                                  Map<String, MerchantCategoryClassifier.Prediction> predictionByName) {
+    }
+
+    /**
+     * OpenAI 단계 카테고리 지정 결과
+     * @param categoryIds 가맹점 이름 → 카테고리 식별자
+     * @param provisional OpenAI 를 사용할 수 없어 임시 카테고리(기타)로 채웠으면 true (분류 대기로 저장해 나중에 다시 분류)
+     */
+    public record AIResolution(Map<String, Long> categoryIds, boolean provisional) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.budget.ai.category;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매장-카테고리 매핑 출처
+ * <p>
+ *     초기 등록 패턴, AI 분류 결과
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MerchantCategorySource {
+    SEED("초기 등록"),
+    AI("AI 분류");
+
+    private final String displayName;
+}
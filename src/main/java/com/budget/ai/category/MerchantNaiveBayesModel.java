@@ -0,0 +1,143 @@
+package com.budget.ai.category;
+
+import java.util.*;
+
+/**
+ * 가맹점 이름 문자 n-gram 다항 나이브 베이즈 모델
+ * <p>
+ *     정규화한 가맹점 이름을 앞뒤 경계 문자를 붙인 2~3글자 n-gram과 공백 단위 단어로 나눠 카테고리별 빈도를 센다.
+ *     예측은 라플라스 스무딩한 로그 확률을 정규화한 사후 확률이 가장 높은 카테고리와 그 확률(신뢰도)을 반환한다.
+ *     학습 샘플을 한 건씩 더할 수 있어 전체 재학습 없이 갱신된다. 동기화하지 않으므로 호출 측에서 잠금을 관리한다.
+ * </p>
+ */
+public final class MerchantNaiveBayesModel {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+    private static final char BOUNDARY = '^';
+
+    /** 카테고리 → 학습 샘플 수 */
+    private final Map<Long, Integer> sampleCountByCategory = new HashMap<>();
+
+    /** 카테고리 → (특징 → 빈도) */
+    private final Map<Long, Map<String, Integer>> featureCountByCategory = new HashMap<>();
+
+    /** 카테고리 → 전체 특징 빈도 합 */
+    private final Map<Long, Integer> totalFeatureCountByCategory = new HashMap<>();
+
+    /** 전체 특징 종류 (스무딩 분모) */
+    private final Set<String> vocabulary = new HashSet<>();
+
+    private int sampleCount;
+
+    /**
+     * 학습 샘플 추가
+     * @param merchantName 가맹점 이름
+     * @param categoryId   카테고리 식별자
+     */
+    public void learn(String merchantName, Long categoryId) {
+        List<String> features = features(merchantName);
+
+        if (features.isEmpty() || categoryId == null) {
+            return;
+        }
+
+        sampleCount++;
+        sampleCountByCategory.merge(categoryId, 1, Integer::sum);
+
+        Map<String, Integer> featureCount = featureCountByCategory.computeIfAbsent(categoryId, key -> new HashMap<>());
+        for (String feature : features) {
+            featureCount.merge(feature, 1, Integer::sum);
+            vocabulary.add(feature);
+        }
+
+        totalFeatureCountByCategory.merge(categoryId, features.size(), Integer::sum);
+    }
+
+    /**
+     * 카테고리 예측
+     * @param merchantName 가맹점 이름
+     * @return 가장 가능성 높은 카테고리와 신뢰도, 학습 샘플이 없거나 특징이 없으면 empty
+     */
+    public Optional<Prediction> predict(String merchantName) {
+        List<String> features = features(merchantName);
+
+        if (features.isEmpty() || sampleCount == 0) {
+            return Optional.empty();
+        }
+
+        int vocabularySize = vocabulary.size();
+        Map<Long, Double> logScoreByCategory = new HashMap<>();
+
+        // 1. 카테고리별 로그 사전 확률 + 특징별 로그 가능도
+        for (Map.Entry<Long, Integer> entry : sampleCountByCategory.entrySet()) {
+            Long categoryId = entry.getKey();
+            Map<String, Integer> featureCount = featureCountByCategory.get(categoryId);
+            double denominator = totalFeatureCountByCategory.get(categoryId) + vocabularySize;
+
+            double logScore = Math.log((double) entry.getValue() / sampleCount);
+            for (String feature : features) {
+                logScore += Math.log((featureCount.getOrDefault(feature, 0) + 1) / denominator);
+            }
+
+            logScoreByCategory.put(categoryId, logScore);
+        }
+
+        // 2. 최댓값 기준 정규화로 사후 확률 계산 (언더플로 방지)
+        Long bestCategoryId = null;
+        double maxLogScore = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<Long, Double> entry : logScoreByCategory.entrySet()) {
+            if (entry.getValue() > maxLogScore) {
+                maxLogScore = entry.getValue();
+                bestCategoryId = entry.getKey();
+            }
+        }
+
+        double sum = 0;
+        for (double logScore : logScoreByCategory.values()) {
+            sum += Math.exp(logScore - maxLogScore);
+        }
+
+        return Optional.of(new Prediction(bestCategoryId, 1.0 / sum));
+    }
+
+    /**
+     * 학습 샘플 수
+     */
+    public int sampleCount() {
+        return sampleCount;
+    }
+
+    private static List<String> features(String merchantName) {
+        String normalized = MerchantNameNormalizer.normalize(merchantName);
+
+        if (normalized == null || normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> features = new ArrayList<>();
+
+        // 1. 공백 단위 단어
+        for (String word : normalized.split(" ")) {
+            features.add("w:" + word);
+        }
+
+        // 2. 경계 문자를 붙인 문자 n-gram (공백 제외)
+        String padded = BOUNDARY + normalized.replace(" ", "") + BOUNDARY;
+        for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                features.add(padded.substring(i, i + n));
+            }
+        }
+
+        return features;
+    }
+
+    /**
+     * 예측 결과
+     * @param categoryId 카테고리 식별자
+     * @param confidence 사후 확률 (0~1)
+     */
+    public record Prediction(Long categoryId, double confidence) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.budget.ai.category;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가맹점 이름 정규화
+ * <p>
+ *     같은 가맹점이 대소문자·공백만 다르게 들어와도 하나의 키로 조회되도록 한다.
+ *     가맹점 키는 여기에 더해 지점명·매장 번호·괄호 부가 정보·공백과 기호를 제거해 같은 브랜드의 지점을 하나로 묶는다.
+ * </p>
+ */
+public final class MerchantNameNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** 괄호 안 부가 정보 ("(강남)", "[온라인]") */
+    private static final Pattern BRACKETED = Pattern.compile("[(\\[{].*?[)\\]}]");
+
+    /** 매장 번호 ("#123", "no.12", "no 7") */
+    private static final Pattern STORE_NUMBER = Pattern.compile("(#|\\bno\\.?)\\s*\\d+");
+
+    /** 숫자만으로 된 단어, 하이픈 뒤 숫자 ("0012", "gs25-1234" 의 "-1234") */
+    private static final Pattern NUMBER_TOKEN = Pattern.compile("(^|\\s)\\d+(?=\\s|$)|-\\d+(?=\\s|$)");
+
+    /** 마지막 단어가 지점명 ("강남점", "2호점", "역삼지점") */
+    private static final Pattern BRANCH_SUFFIX = Pattern.compile("\\s+(\\S+점)$");
+
+    /** "점"으로 끝나지만 지점명이 아닌 업종명 (지우면 다른 업종 가맹점과 같은 키가 됨) */
+    private static final Set<String> BUSINESS_TYPES = Set.of(
+            "편의점", "음식점", "분식점", "한식점", "중식점", "일식점", "양식점", "제과점", "주점", "서점",
+            "문구점", "백화점", "할인점", "전문점", "잡화점", "정육점", "철물점", "안경점", "면세점", "대리점"
+    );
+
+    /** 문자·숫자 외 (공백·기호) */
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private MerchantNameNormalizer() {
+    }
+
+    /**
+     * 정규화 키 생성 (앞뒤 공백 제거, 연속 공백 1칸, 소문자)
+     * @param merchantName 가맹점 이름
+     * @return 정규화 키, 입력이 null이면 null
+     */
+    public static String normalize(String merchantName) {
+        if (merchantName == null) {
+            return null;
+        }
+
+        return WHITESPACE.matcher(merchantName.trim())
+                .replaceAll(" ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 가맹점 키 생성
+     * <p>
+     *     "스타벅스 강남점", "STARBUCKS #123", "스타벅스(역삼)" 처럼 지점만 다른 이름이 같은 키가 되도록
+     *     전각 문자 변환(NFKC)·소문자 변환 후 괄호 부가 정보, 매장 번호, 숫자만으로 된 단어,
+     *     두 단어 이상일 때 마지막 지점명 (업종명 제외) 을 지우고 공백·기호를 제거한다. 모두 지워지면 공백·기호만 제거한 이름을 쓴다.
+     * </p>
+     * @param merchantName 가맹점 이름
+     * @return 가맹점 키, 입력이 null이거나 문자·숫자가 없으면 null
+     */
+    public static String toMerchantKey(String merchantName) {
+        if (merchantName == null) {
+            return null;
+        }
+
+        String normalized = normalize(Normalizer.normalize(merchantName, Normalizer.Form.NFKC));
+
+        String stripped = BRACKETED.matcher(normalized).replaceAll(" ");
+        stripped = STORE_NUMBER.matcher(stripped).replaceAll(" ");
+        stripped = NUMBER_TOKEN.matcher(stripped).replaceAll(" ");
+        stripped = stripBranchSuffix(stripped.trim());
+
+        String key = NON_ALPHANUMERIC.matcher(stripped).replaceAll("");
+
+        if (key.isEmpty()) {
+            key = NON_ALPHANUMERIC.matcher(normalized).replaceAll("");
+        }
+
+        return key.isEmpty() ? null : key;
+    }
+
+    private static String stripBranchSuffix(String name) {
+        Matcher matcher = BRANCH_SUFFIX.matcher(name);
+
+        if (!matcher.find() || BUSINESS_TYPES.contains(matcher.group(1))) {
+            return name;
+        }
+
+        return name.substring(0, matcher.start());
+    }
+}
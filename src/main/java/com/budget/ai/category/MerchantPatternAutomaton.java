@@ -0,0 +1,162 @@
+package com.budget.ai.category;
+
+import java.util.*;
+
+/**
+ * 가맹점 이름 패턴 다중 매칭 오토마타 (Aho-Corasick)
+ * <p>
+ *     모든 매장 이름 패턴으로 한 번 구성한 뒤, 가맹점 이름을 한 번만 훑어 포함된 패턴을 찾는다.
+ *     여러 패턴이 매칭되면 가장 긴 패턴을, 길이가 같으면 더 앞에서 시작한 패턴을 선택한다.
+ *     구성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용할 수 있다.
+ * </p>
+ */
+public final class MerchantPatternAutomaton {
+
+    private static final MerchantPatternAutomaton EMPTY = build(List.of());
+
+    private final Node root;
+    private final int patternCount;
+
+    private MerchantPatternAutomaton(Node root, int patternCount) {
+        this.root = root;
+        this.patternCount = patternCount;
+    }
+
+    /**
+     * 빈 오토마타
+     */
+    public static MerchantPatternAutomaton empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 패턴 목록으로 오토마타 구성
+     * <p>
+     *     대소문자를 구분하지 않으며, 같은 패턴이 여러 개면 식별자가 가장 작은 패턴을 사용한다.
+     * </p>
+     * @param entryList 매장 이름 패턴 목록
+     * @return 구성된 오토마타
+     */
+    public static MerchantPatternAutomaton build(Collection<Entry> entryList) {
+        Node root = new Node(0);
+        int patternCount = 0;
+
+        // 1. 패턴으로 트라이 구성
+        for (Entry entry : entryList) {
+            if (entry.pattern() == null || entry.pattern().isBlank()) {
+                continue;
+            }
+
+            String pattern = normalize(entry.pattern());
+            Node node = root;
+
+            for (int i = 0; i < pattern.length(); i++) {
+                char ch = pattern.charAt(i);
+                int depth = node.depth + 1;
+                node = node.children.computeIfAbsent(ch, key -> new Node(depth));
+            }
+
+            if (node.entry == null) {
+                patternCount++;
+                node.entry = entry;
+            } else if (entry.merchantCategoryId() < node.entry.merchantCategoryId()) {
+                node.entry = entry;
+            }
+        }
+
+        // 2. BFS로 실패 링크와 출력 링크 구성
+        Deque<Node> queue = new ArrayDeque<>();
+
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+
+            for (Map.Entry<Character, Node> e : node.children.entrySet()) {
+                char ch = e.getKey();
+                Node child = e.getValue();
+
+                Node fail = node.fail;
+                while (fail != null && !fail.children.containsKey(ch)) {
+                    fail = fail.fail;
+                }
+
+                child.fail = fail == null ? root : fail.children.get(ch);
+                child.output = child.fail.entry != null ? child.fail : child.fail.output;
+
+                queue.add(child);
+            }
+        }
+
+        return new MerchantPatternAutomaton(root, patternCount);
+    }
+
+    /**
+     * 가맹점 이름에 포함된 패턴 중 가장 긴 패턴 조회
+     * @param merchantName 가맹점 이름
+     * @return 매칭된 패턴, 없으면 empty
+     */
+    public Optional<Entry> match(String merchantName) {
+        if (merchantName == null || patternCount == 0) {
+            return Optional.empty();
+        }
+
+        String text = normalize(merchantName);
+        Node node = root;
+        Node best = null;
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+
+            while (node != root && !node.children.containsKey(ch)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(ch, root);
+
+            // 현재 위치에서 끝나는 가장 긴 패턴 (자기 자신 → 출력 링크 순)
+            Node candidate = node.entry != null ? node : node.output;
+
+            // 더 긴 패턴만 교체하므로 길이가 같으면 먼저 시작한 패턴이 유지된다
+            if (candidate != null && (best == null || candidate.depth > best.depth)) {
+                best = candidate;
+            }
+        }
+
+        return best == null ? Optional.empty() : Optional.of(best.entry);
+    }
+
+    /**
+     * 등록된 패턴 수
+     */
+    public int size() {
+        return patternCount;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 매장 이름 패턴
+     * @param merchantCategoryId 매장 카테고리 고유 식별자
+     * @param pattern            매장 이름 패턴
+     * @param categoryId         카테고리 고유 식별자
+     */
+    public record Entry(Long merchantCategoryId, String pattern, Long categoryId) {
+    }
+
+    private static final class Node {
+        private final int depth;
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        private Node output;
+        private Entry entry;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+    }
+}
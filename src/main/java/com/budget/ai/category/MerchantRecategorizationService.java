@@ -0,0 +1,58 @@
+package com.budget.ai.category;
+
+import com.budget.ai.category.dto.request.MerchantRecategorizeRequest;
+import com.budget.ai.category.dto.response.MerchantRecategorizeResponse;
+import com.budget.ai.logging.aop.OperationLog;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.transaction.TransactionRecategorizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가맹점 카테고리 일괄 재분류 Service
+ */
+@Service
+@RequiredArgsConstructor
+public class MerchantRecategorizationService {
+
+    private final CategoryRegistry categoryRegistry;
+    private final LearnedMerchantCategoryStore learnedMerchantCategoryStore;
+    private final TransactionRecategorizer transactionRecategorizer;
+
+    /**
+     * 가맹점 카테고리 일괄 재분류
+     * <p>
+     *     가맹점 키의 AI 분류 결과를 먼저 바꿔 이후 동기화가 새 카테고리를 쓰게 한 뒤, 기존 거래를 chunk 단위로 변경한다.
+     *     초기 등록 패턴은 바꾸지 않으므로, 패턴에 걸리는 가맹점의 이후 거래는 패턴의 카테고리로 분류된다.
+     *     메서드 전체를 트랜잭션으로 묶지 않으므로 중간에 실패해도 이미 커밋된 chunk 는 유지되고, 다시 요청하면 남은 거래만 변경된다.
+     * </p>
+     * @param request 가맹점 키, 변경할 카테고리 코드
+     * @return 수정한 매핑 수, 변경 거래 수, 거래가 바뀐 회원 수
+     */
+    @OperationLog(eventName = "가맹점 카테고리 일괄 재분류")
+    public MerchantRecategorizeResponse recategorize(MerchantRecategorizeRequest request) {
+        // 1. 가맹점 이름이 들어와도 같은 키가 되도록 정규화
+        String merchantKey = MerchantNameNormalizer.toMerchantKey(request.merchantKey());
+        if (merchantKey == null) {
+            throw new CustomException(ErrorCode.INVALID_MERCHANT_KEY);
+        }
+
+        CategoryRegistry.CategoryInfo category = categoryRegistry.findByCode(request.categoryCode())
+                .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+
+        // 2. 가맹점 키의 AI 분류 결과 수정 (초기 등록 패턴은 유지)
+        int merchantCategoryCount = learnedMerchantCategoryStore.correct(merchantKey, category.id());
+
+        // 3. 기존 거래 chunk 단위 변경, 거래가 바뀐 회원의 통계 캐시만 무효화
+        TransactionRecategorizer.Result result = transactionRecategorizer.recategorize(merchantKey, category.id());
+
+        return new MerchantRecategorizeResponse(
+                merchantKey,
+                category.code(),
+                merchantCategoryCount,
+                result.transactionCount(),
+                result.affectedUserCount()
+        );
+    }
+}
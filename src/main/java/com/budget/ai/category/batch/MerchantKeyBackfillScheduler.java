@@ -0,0 +1,47 @@
+package com.budget.ai.category.batch;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class MerchantKeyBackfillScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job merchantKeyBackfillJob;
+
+    public MerchantKeyBackfillScheduler(JobLauncher jobLauncher,
+                                        @Qualifier("merchantKeyBackfillJob") Job merchantKeyBackfillJob) {
+        this.jobLauncher = jobLauncher;
+        this.merchantKeyBackfillJob = merchantKeyBackfillJob;
+    }
+
+    /**
+     * 가맹점 키 backfill (기본 매일 18:30 UTC)
+     * <p>
+     *     새로 저장되는 행은 저장 시 키가 채워지므로, 마이그레이션 이전에 저장된 행만 대상이 된다.
+     *     비어 있는 행이 없으면 인덱스 조회 한 번으로 끝난다.
+     * </p>
+     */
+    @Scheduled(cron = "${category.merchant-key.backfill.cron:0 30 18 * * ?}", zone = "UTC")
+    public void runMerchantKeyBackfillJob() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        Map<String, JobParameter<?>> param = new HashMap<>();
+        // 반복 실행되므로 실행 시각으로 JobInstance 구분
+        param.put("requestedAt", new JobParameter(LocalDateTime.now(ZoneOffset.UTC).toString(), String.class));
+
+        jobLauncher.run(merchantKeyBackfillJob, new JobParameters(param));
+    }
+}
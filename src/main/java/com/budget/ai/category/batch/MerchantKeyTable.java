@@ -0,0 +1,16 @@
+package com.budget.ai.category.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가맹점 키 backfill 대상 테이블
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MerchantKeyTable {
+    MERCHANT_CATEGORIES("merchant_categories"),
+    TRANSACTIONS("transactions");
+
+    private final String tableName;
+}
@@ -0,0 +1,9 @@
+package com.budget.ai.category.batch.dto;
+
+/**
+ * 가맹점 키가 비어 있는 행
+ * @param id           행 식별자
+ * @param merchantName 가맹점 이름
+ */
+public record MerchantKeyRow(Long id, String merchantName) {
+}
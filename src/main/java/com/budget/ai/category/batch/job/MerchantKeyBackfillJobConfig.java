@@ -0,0 +1,92 @@
+package com.budget.ai.category.batch.job;
+
+import com.budget.ai.category.batch.MerchantKeyTable;
+import com.budget.ai.category.batch.dto.MerchantKeyRow;
+import com.budget.ai.category.batch.reader.MerchantKeyBackfillReader;
+import com.budget.ai.category.batch.writer.MerchantKeyBackfillWriter;
+import com.budget.ai.report.batch.listener.JobLoggerListener;
+import com.budget.ai.report.batch.listener.StepLoggerListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 가맹점 키 backfill 배치
+ * <p>
+ *     normalized_merchant_key 가 비어 있는 merchant_categories, transactions 행을 id 순으로 읽어 가맹점 키를 채운다.
+ *     chunk 마다 커밋하므로 한 번에 잡는 행 잠금은 chunk-size 건이며, 이미 채워진 행은 다시 읽지 않아 반복 실행해도 안전하다.
+ * </p>
+ */
+@Configuration
+@EnableBatchProcessing
+public class MerchantKeyBackfillJobConfig {
+
+    @Bean
+    @Qualifier("merchantKeyBackfillJob")
+    public Job merchantKeyBackfillJob(JobRepository jobRepository,
+                                      Step merchantCategoryKeyBackfillStep,
+                                      Step transactionKeyBackfillStep,
+                                      JobLoggerListener jobLoggerListener) {
+        return new JobBuilder("merchantKeyBackfillJob", jobRepository)
+                .listener(jobLoggerListener)
+                .start(merchantCategoryKeyBackfillStep)
+                .next(transactionKeyBackfillStep)
+                .build();
+    }
+
+    @Bean
+    @Qualifier("merchantCategoryKeyBackfillStep")
+    public Step merchantCategoryKeyBackfillStep(JobRepository jobRepository,
+                                                PlatformTransactionManager transactionManager,
+                                                MerchantKeyBackfillReader merchantCategoryKeyReader,
+                                                JdbcTemplate jdbcTemplate,
+                                                StepLoggerListener stepLoggerListener,
+                                                @Value("${category.merchant-key.backfill.chunk-size:1000}") int chunkSize) {
+        return new StepBuilder("merchantCategoryKeyBackfillStep", jobRepository)
+                .<MerchantKeyRow, MerchantKeyRow>chunk(chunkSize, transactionManager)
+                .reader(merchantCategoryKeyReader)
+                .writer(new MerchantKeyBackfillWriter(jdbcTemplate, MerchantKeyTable.MERCHANT_CATEGORIES))
+                .listener(stepLoggerListener)
+                .build();
+    }
+
+    @Bean
+    @Qualifier("transactionKeyBackfillStep")
+    public Step transactionKeyBackfillStep(JobRepository jobRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           MerchantKeyBackfillReader transactionKeyReader,
+                                           JdbcTemplate jdbcTemplate,
+                                           StepLoggerListener stepLoggerListener,
+                                           @Value("${category.merchant-key.backfill.chunk-size:1000}") int chunkSize) {
+        return new StepBuilder("transactionKeyBackfillStep", jobRepository)
+                .<MerchantKeyRow, MerchantKeyRow>chunk(chunkSize, transactionManager)
+                .reader(transactionKeyReader)
+                .writer(new MerchantKeyBackfillWriter(jdbcTemplate, MerchantKeyTable.TRANSACTIONS))
+                .listener(stepLoggerListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public MerchantKeyBackfillReader merchantCategoryKeyReader(JdbcTemplate jdbcTemplate,
+                                                               @Value("${category.merchant-key.backfill.chunk-size:1000}") int pageSize) {
+        return new MerchantKeyBackfillReader(jdbcTemplate, MerchantKeyTable.MERCHANT_CATEGORIES, pageSize);
+    }
+
+    @Bean
+    @StepScope
+    public MerchantKeyBackfillReader transactionKeyReader(JdbcTemplate jdbcTemplate,
+                                                          @Value("${category.merchant-key.backfill.chunk-size:1000}") int pageSize) {
+        return new MerchantKeyBackfillReader(jdbcTemplate, MerchantKeyTable.TRANSACTIONS, pageSize);
+    }
+}
@@ -0,0 +1,55 @@
+package com.budget.ai.category.batch.reader;
+
+import com.budget.ai.category.batch.MerchantKeyTable;
+import com.budget.ai.category.batch.dto.MerchantKeyRow;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 가맹점 키가 비어 있는 행 조회
+ * <p>
+ *     마지막으로 읽은 id 이후를 pageSize 건씩 키셋 페이징으로 읽는다. OFFSET을 쓰지 않으므로
+ *     앞 페이지가 갱신되어 조건에서 빠져도 건너뛰는 행이 없고, 키를 만들 수 없어 비어 있는 행도 한 번만 읽는다.
+ * </p>
+ */
+public class MerchantKeyBackfillReader implements ItemReader<MerchantKeyRow> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String selectSql;
+    private final int pageSize;
+
+    private long lastId;
+    private Iterator<MerchantKeyRow> page = List.<MerchantKeyRow>of().iterator();
+    private boolean exhausted;
+
+    public MerchantKeyBackfillReader(JdbcTemplate jdbcTemplate, MerchantKeyTable table, int pageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.selectSql = "SELECT id, merchant_name FROM " + table.getTableName()
+                + " WHERE normalized_merchant_key IS NULL AND id > ? ORDER BY id LIMIT ?";
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public MerchantKeyRow read() {
+        if (!page.hasNext() && !exhausted) {
+            List<MerchantKeyRow> rowList = jdbcTemplate.query(selectSql,
+                    (rs, rowNum) -> new MerchantKeyRow(rs.getLong("id"), rs.getString("merchant_name")),
+                    lastId, pageSize);
+
+            exhausted = rowList.size() < pageSize;
+            page = rowList.iterator();
+        }
+
+        if (!page.hasNext()) {
+            return null;
+        }
+
+        MerchantKeyRow row = page.next();
+        lastId = row.id();
+
+        return row;
+    }
+}
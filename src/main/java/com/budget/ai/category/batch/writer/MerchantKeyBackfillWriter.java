@@ -0,0 +1,45 @@
+package com.budget.ai.category.batch.writer;
+
+import com.budget.ai.category.MerchantNameNormalizer;
+import com.budget.ai.category.batch.MerchantKeyTable;
+import com.budget.ai.category.batch.dto.MerchantKeyRow;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가맹점 키 계산 후 JDBC 배치 UPDATE
+ * <p>
+ *     키를 만들 수 없는 행 (문자·숫자가 없는 이름) 은 비워 둔다.
+ * </p>
+ */
+public class MerchantKeyBackfillWriter implements ItemWriter<MerchantKeyRow> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateSql;
+
+    public MerchantKeyBackfillWriter(JdbcTemplate jdbcTemplate, MerchantKeyTable table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateSql = "UPDATE " + table.getTableName() + " SET normalized_merchant_key = ? WHERE id = ?";
+    }
+
+    @Override
+    public void write(Chunk<? extends MerchantKeyRow> chunk) {
+        List<Object[]> argsList = new ArrayList<>(chunk.size());
+
+        for (MerchantKeyRow row : chunk) {
+            String merchantKey = MerchantNameNormalizer.toMerchantKey(row.merchantName());
+
+            if (merchantKey != null) {
+                argsList.add(new Object[]{merchantKey, row.id()});
+            }
+        }
+
+        if (!argsList.isEmpty()) {
+            jdbcTemplate.batchUpdate(updateSql, argsList);
+        }
+    }
+}
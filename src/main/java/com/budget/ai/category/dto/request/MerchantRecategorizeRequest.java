@@ -0,0 +1,20 @@
+package com.budget.ai.category.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 가맹점 카테고리 일괄 재분류 요청 DTO
+ */
+@Schema(description = "가맹점 카테고리 일괄 재분류 요청 DTO")
+public record MerchantRecategorizeRequest(
+
+        @Schema(description = "가맹점 키 또는 가맹점 이름 (지점명·매장 번호는 무시)", example = "스타벅스")
+        @NotBlank(message = "가맹점 키는 필수입니다.")
+        String merchantKey,
+
+        @Schema(description = "변경할 카테고리 코드", example = "CAFE")
+        @NotBlank(message = "카테고리 코드는 필수입니다.")
+        String categoryCode
+) {
+}
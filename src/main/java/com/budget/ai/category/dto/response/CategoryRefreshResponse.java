@@ -0,0 +1,13 @@
+package com.budget.ai.category.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 카테고리 레지스트리 갱신 응답 DTO
+ */
+@Schema(description = "카테고리 레지스트리 갱신 응답 DTO")
+public record CategoryRefreshResponse(
+        @Schema(description = "다시 읽은 카테고리 수", example = "8")
+        int categoryCount
+) {
+}
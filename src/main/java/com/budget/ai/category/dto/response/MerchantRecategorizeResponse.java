@@ -0,0 +1,25 @@
+package com.budget.ai.category.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 가맹점 카테고리 일괄 재분류 응답 DTO
+ */
+@Schema(description = "가맹점 카테고리 일괄 재분류 응답 DTO")
+public record MerchantRecategorizeResponse(
+        @Schema(description = "가맹점 키", example = "스타벅스")
+        String merchantKey,
+
+        @Schema(description = "변경한 카테고리 코드", example = "CAFE")
+        String categoryCode,
+
+        @Schema(description = "수정·기록한 가맹점 카테고리 매핑 수", example = "3")
+        int merchantCategoryCount,
+
+        @Schema(description = "카테고리를 변경한 거래 수", example = "1250")
+        int transactionCount,
+
+        @Schema(description = "거래가 변경된 회원 수 (통계 캐시 무효화 대상)", example = "87")
+        int affectedUserCount
+) {
+}
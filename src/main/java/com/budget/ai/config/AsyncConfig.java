@@ -0,0 +1,66 @@
+package com.budget.ai.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 비동기 거래내역 동기화 작업 스레드 풀
+     * <p>
+     *     큐가 가득 차면 거절(TaskRejectedException)해 요청 스레드에서 바로 실패 응답을 준다.
+     * </p>
+     */
+    @Bean
+    public ThreadPoolTaskExecutor syncJobExecutor(@Value("${transaction.sync.job.core-pool-size:4}") int corePoolSize,
+                                                  @Value("${transaction.sync.job.max-pool-size:8}") int maxPoolSize,
+                                                  @Value("${transaction.sync.job.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sync-job-");
+        executor.setTaskDecorator(mdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 요청 스레드의 MDC (requestId, clientIp, userId) 를 작업 스레드로 전달
+     */
+    private TaskDecorator mdcTaskDecorator() {
+        return runnable -> {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                } else {
+                    MDC.clear();
+                }
+
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        };
+    }
+}
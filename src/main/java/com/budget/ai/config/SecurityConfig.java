@@ -3,8 +3,10 @@ package com.budget.ai.config;
 import com.budget.ai.auth.JwtAuthenticationFilter;
 import com.budget.ai.auth.JwtTokenProvider;
 import com.budget.ai.auth.RequestTraceFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -31,9 +33,23 @@ public class SecurityConfig {
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
 
+    /** actuator 전용 내부 포트 (외부 비공개, 사용하지 않으면 -1) */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(redisTemplate, jwtTokenProvider);
+        return new JwtAuthenticationFilter(redisTemplate, jwtTokenProvider, internalManagementPort());
+    }
+
+    /**
+     * 애플리케이션 포트와 분리된 actuator 포트 (분리되지 않았으면 -1, 공개 포트의 지표 노출 방지)
+     */
+    private int internalManagementPort() {
+        return managementPort > 0 && managementPort != serverPort ? managementPort : -1;
     }
 
     @Bean
@@ -68,6 +84,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
+                        // 비동기 응답 디스패치 (최초 요청에서 인가 완료, JWT 필터는 재실행되지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 관련 API
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
@@ -83,12 +102,19 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-resources/**").permitAll()
                         .requestMatchers("/webjars/**").permitAll()
 
+                        // 헬스 체크
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+
+                        // 내부 관리 포트의 actuator (Prometheus 지표 수집, 네트워크로 접근 제한)
+                        .requestMatchers(request -> request.getLocalPort() == internalManagementPort()).permitAll()
+
                         // 기타 정적 리소스
                         .requestMatchers("/favicon.ico").permitAll()
                         .requestMatchers("/error").permitAll()
 
                         // 가짜 외부 API
                         .requestMatchers("/outer/transaction").permitAll()
+                        .requestMatchers("/outer/transaction/stream").permitAll()
 
                         // 나머지
                         .anyRequest().authenticated()
@@ -1,23 +1,71 @@
 package com.budget.ai.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebClient 설정
+ * <p>
+ *     외부 서비스(카드사)와 OpenAI 는 각자 Reactor Netty 커넥션 풀을 쓴다. 한쪽이 느려져 풀이 포화돼도
+ *     다른 쪽 요청은 영향을 받지 않으며, 풀 지표(reactor.netty.connection.provider.*, name 태그)는
+ *     내부 관리 포트의 /actuator/prometheus 로 노출된다.
+ * </p>
+ * <p>
+ *     연결·읽기·쓰기 시간 제한과 gzip 압축을 적용하고, https 대상은 ALPN 으로 HTTP/2 를 협상한다.
+ *     읽기 시간 제한은 응답 조각 사이 최대 간격이라 스트리밍 응답(NDJSON, SSE)에도 쓸 수 있다.
+ * </p>
+ */
 @Configuration
 public class WebClientConfig {
 
     @Value("${openai.api.key}")
     private String apiKey;
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider serviceConnectionProvider(
+            @Value("${external.service.pool.max-connections:50}") int maxConnections,
+            @Value("${external.service.pool.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${external.service.pool.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+            @Value("${external.service.pool.max-idle-seconds:30}") long maxIdleSeconds) {
+        return connectionProvider("service", maxConnections, pendingAcquireMaxCount, pendingAcquireTimeoutMs, maxIdleSeconds);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAIConnectionProvider(
+            @Value("${external.openai.pool.max-connections:30}") int maxConnections,
+            @Value("${external.openai.pool.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${external.openai.pool.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${external.openai.pool.max-idle-seconds:30}") long maxIdleSeconds) {
+        return connectionProvider("openai", maxConnections, pendingAcquireMaxCount, pendingAcquireTimeoutMs, maxIdleSeconds);
+    }
+
     @Bean
     @Qualifier("serviceWebClient")
     public WebClient webClient(WebClient.Builder builder,
-                               @Value("${external.service.base-url}") String baseUrl) {
+                               @Qualifier("serviceConnectionProvider") ConnectionProvider connectionProvider,
+                               @Value("${external.service.base-url}") String baseUrl,
+                               @Value("${external.service.connect-timeout-ms:2000}") int connectTimeoutMs,
+                               @Value("${external.service.read-timeout-seconds:10}") int readTimeoutSeconds,
+                               @Value("${external.service.write-timeout-seconds:10}") int writeTimeoutSeconds,
+                               @Value("${external.service.http2:true}") boolean http2) {
+        HttpClient httpClient = httpClient(connectionProvider, baseUrl, connectTimeoutMs, readTimeoutSeconds,
+                writeTimeoutSeconds, http2);
+
         return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(baseUrl)
                 .build();
     }
@@ -25,11 +73,61 @@ public class WebClientConfig {
     @Bean
     @Qualifier("openAIWebClient")
     public WebClient openAIWebClient(WebClient.Builder builder,
-                                     @Value("${external.openai.base-url}") String baseUrl) {
+                                     @Qualifier("openAIConnectionProvider") ConnectionProvider connectionProvider,
+                                     @Value("${external.openai.base-url}") String baseUrl,
+                                     @Value("${external.openai.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                     @Value("${external.openai.read-timeout-seconds:60}") int readTimeoutSeconds,
+                                     @Value("${external.openai.write-timeout-seconds:10}") int writeTimeoutSeconds,
+                                     @Value("${external.openai.http2:true}") boolean http2) {
+        HttpClient httpClient = httpClient(connectionProvider, baseUrl, connectTimeoutMs, readTimeoutSeconds,
+                writeTimeoutSeconds, http2);
+
         return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 대상별 커넥션 풀
+     * <p>
+     *     동시 연결이 maxConnections 를 넘으면 pendingAcquireMaxCount 까지 대기열에 두고,
+     *     pendingAcquireTimeout 안에 연결을 얻지 못하면 실패한다. maxIdle 동안 쓰이지 않은 연결은 백그라운드에서 정리한다.
+     * </p>
+     */
+    private ConnectionProvider connectionProvider(String name, int maxConnections, int pendingAcquireMaxCount,
+                                                  long pendingAcquireTimeoutMs, long maxIdleSeconds) {
+        Duration maxIdleTime = Duration.ofSeconds(maxIdleSeconds);
+
+        return ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    private HttpClient httpClient(ConnectionProvider connectionProvider, String baseUrl, int connectTimeoutMs,
+                                  int readTimeoutSeconds, int writeTimeoutSeconds, boolean http2) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .compress(true)
+                // 읽기 제한은 요청마다 적용 (풀에서 쉬는 연결에는 적용되지 않음)
+                .responseTimeout(Duration.ofSeconds(readTimeoutSeconds))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeoutSeconds, TimeUnit.SECONDS)));
+
+        // 평문 http 는 HTTP/1.1 유지 (h2c 업그레이드 왕복 없음)
+        if (http2 && baseUrl.startsWith("https")) {
+            return httpClient
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+
+        return httpClient;
+    }
+}
@@ -0,0 +1,68 @@
+package com.budget.ai.external.openai;
+
+/**
+ * 프로세스 내 분당 요청 수·토큰 수 버킷
+ * <p>
+ *     Redis 버킷과 같은 방식(경과 시간만큼 채움, 두 버킷 모두 충분할 때만 차감)으로 동작하며,
+ *     Redis 를 사용할 수 없을 때 이 서버 몫의 허용량만 쓰도록 한다.
+ * </p>
+ */
+class LocalTokenBucket {
+
+    private static final double MILLIS_PER_MINUTE = 60_000d;
+
+    private final double requestCapacity;
+    private final double tokenCapacity;
+
+    private double requests;
+    private double tokens;
+    private long refilledAt;
+
+    LocalTokenBucket(double requestsPerMinute, double tokensPerMinute) {
+        this.requestCapacity = requestsPerMinute;
+        this.tokenCapacity = tokensPerMinute;
+        this.requests = requestsPerMinute;
+        this.tokens = tokensPerMinute;
+        this.refilledAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 요청 1회와 토큰 차감
+     * @param tokenCount 차감할 토큰 수 (버킷 용량을 넘으면 용량만큼)
+     * @return 0이면 차감 성공, 아니면 다시 시도할 때까지 기다릴 시간 (ms)
+     */
+    synchronized long tryAcquire(long tokenCount) {
+        refill();
+
+        double required = Math.min(tokenCount, tokenCapacity);
+
+        if (requests >= 1 && tokens >= required) {
+            requests -= 1;
+            tokens -= required;
+            return 0;
+        }
+
+        double requestWait = (1 - requests) / (requestCapacity / MILLIS_PER_MINUTE);
+        double tokenWait = (required - tokens) / (tokenCapacity / MILLIS_PER_MINUTE);
+
+        return (long) Math.ceil(Math.max(Math.max(requestWait, tokenWait), 1));
+    }
+
+    /**
+     * 실제 사용량과 추정치 차이 반영 (음수면 돌려줌)
+     * @param tokenCount 추가로 차감할 토큰 수
+     */
+    synchronized void adjust(long tokenCount) {
+        refill();
+        tokens = Math.min(tokenCapacity, tokens - tokenCount);
+    }
+
+    private void refill() {
+        long now = System.currentTimeMillis();
+        long elapsed = Math.max(0, now - refilledAt);
+
+        requests = Math.min(requestCapacity, requests + elapsed * requestCapacity / MILLIS_PER_MINUTE);
+        tokens = Math.min(tokenCapacity, tokens + elapsed * tokenCapacity / MILLIS_PER_MINUTE);
+        refilledAt = now;
+    }
+}
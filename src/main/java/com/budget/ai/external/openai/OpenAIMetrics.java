@@ -0,0 +1,114 @@
+package com.budget.ai.external.openai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 호출 지표 (Micrometer, /actuator/prometheus 노출)
+ * <p>
+ *     모든 지표에 호출 용도(type=classify|recommend) 태그를 붙여, 용도별 요청 제한·일괄 분류 크기를 실제 사용량으로 조정할 수 있게 한다.
+ * </p>
+ * <ul>
+ *     <li>openai.call.latency: HTTP 호출 1회 응답 시간 히스토그램 (요청 제한 대기 제외, outcome=success|rate_limited|error)</li>
+ *     <li>openai.call.retries: 429 응답 재시도 횟수</li>
+ *     <li>openai.call.rate-limited: OpenAI 429 응답 수</li>
+ *     <li>openai.rate-limiter.wait: 전체 서버 공용 요청 제한 허용량 확보 대기 시간</li>
+ *     <li>openai.tokens: 응답의 토큰 사용량 (kind=prompt|completion)</li>
+ * </ul>
+ */
+@Component
+public class OpenAIMetrics {
+
+    private static final String TYPE_TAG = "type";
+
+    private final MeterRegistry meterRegistry;
+
+    public OpenAIMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * HTTP 호출 1회 응답 시간 기록
+     * @param traffic 호출 용도
+     * @param outcome 결과 (success, rate_limited, error)
+     * @param elapsed 응답 시간
+     */
+    public void recordLatency(OpenAIResilience.Traffic traffic, String outcome, Duration elapsed) {
+        Timer.builder("openai.call.latency")
+                .description("OpenAI HTTP 호출 1회 응답 시간")
+                .tag(TYPE_TAG, type(traffic))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    /**
+     * 429 응답 재시도 기록
+     * @param traffic 호출 용도
+     */
+    public void recordRetry(OpenAIResilience.Traffic traffic) {
+        counter("openai.call.retries", "OpenAI 429 응답 재시도 횟수", traffic).increment();
+    }
+
+    /**
+     * OpenAI 429 응답 기록
+     * @param traffic 호출 용도
+     */
+    public void recordRateLimited(OpenAIResilience.Traffic traffic) {
+        counter("openai.call.rate-limited", "OpenAI 429 응답 수", traffic).increment();
+    }
+
+    /**
+     * 요청 제한 허용량 확보 대기 시간 기록
+     * @param traffic 호출 용도
+     * @param elapsed 대기 시간 (허용량 확보 실패 포함)
+     */
+    public void recordRateLimiterWait(OpenAIResilience.Traffic traffic, Duration elapsed) {
+        Timer.builder("openai.rate-limiter.wait")
+                .description("OpenAI 요청 제한 허용량 확보 대기 시간")
+                .tag(TYPE_TAG, type(traffic))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    /**
+     * 응답 토큰 사용량 기록
+     * @param traffic          호출 용도
+     * @param promptTokens     프롬프트 토큰 수 (응답에 없으면 null)
+     * @param completionTokens 응답 토큰 수 (응답에 없으면 null)
+     */
+    public void recordTokens(OpenAIResilience.Traffic traffic, Long promptTokens, Long completionTokens) {
+        if (promptTokens != null) {
+            tokenCounter(traffic, "prompt").increment(promptTokens);
+        }
+
+        if (completionTokens != null) {
+            tokenCounter(traffic, "completion").increment(completionTokens);
+        }
+    }
+
+    private Counter tokenCounter(OpenAIResilience.Traffic traffic, String kind) {
+        return Counter.builder("openai.tokens")
+                .description("OpenAI 토큰 사용량")
+                .tag(TYPE_TAG, type(traffic))
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String description, OpenAIResilience.Traffic traffic) {
+        return Counter.builder(name)
+                .description(description)
+                .tag(TYPE_TAG, type(traffic))
+                .register(meterRegistry);
+    }
+
+    private String type(OpenAIResilience.Traffic traffic) {
+        return traffic.name().toLowerCase();
+    }
+}
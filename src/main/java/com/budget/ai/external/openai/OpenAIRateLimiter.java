@@ -0,0 +1,303 @@
+package com.budget.ai.external.openai;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 서버 공용 OpenAI 요청 제한
+ * <p>
+ *     분당 요청 수(RPM)·분당 토큰 수(TPM) 두 버킷을 Redis 에 두고, Lua 스크립트 한 번으로 두 버킷을 함께 채우고 차감한다.
+ *     Redis 서버 시각을 기준으로 채우므로 서버 간 시계 차이의 영향을 받지 않는다.
+ * </p>
+ * <p>
+ *     Redis 왕복을 줄이기 위해 한 번에 요청 prefetchRequests 회·토큰 prefetchTokens 개까지 미리 받아 로컬에서 차감하고,
+ *     prefetchTtl 이 지나면 남은 몫을 버린다 (다른 서버 몫을 오래 붙잡지 않도록).
+ *     Redis 를 사용할 수 없으면 전체 허용량을 fallbackNodeCount 로 나눈 로컬 버킷으로 제한한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OpenAIRateLimiter {
+
+    private static final String REQUEST_BUCKET_KEY = "openaiRateLimit:requests";
+    private static final String TOKEN_BUCKET_KEY = "openaiRateLimit:tokens";
+
+    /** 버킷 키 유지 시간 (빈 버킷이 가득 차는 1분보다 길게) */
+    private static final long BUCKET_TTL_MS = 120_000;
+
+    /**
+     * 두 버킷을 경과 시간만큼 채운 뒤 요청 1회와 최소 토큰이 모두 있으면 요청 가능한 만큼 차감
+     * KEYS: 요청 버킷, 토큰 버킷 / ARGV: RPM, TPM, 요청 희망 수, 최소 토큰, 토큰 희망 수, 키 TTL(ms)
+     * 반환: {차감 요청 수, 차감 토큰 수, 대기 시간(ms)}
+     */
+    private static final DefaultRedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local function refill(key, capacity)
+              local state = redis.call('HMGET', key, 'tokens', 'ts')
+              local tokens = tonumber(state[1])
+              local ts = tonumber(state[2])
+              if tokens == nil or ts == nil then
+                return capacity
+              end
+              return math.min(capacity, tokens + math.max(0, now - ts) * capacity / 60000)
+            end
+
+            local rpm = tonumber(ARGV[1])
+            local tpm = tonumber(ARGV[2])
+            local wantRequests = tonumber(ARGV[3])
+            local minTokens = tonumber(ARGV[4])
+            local wantTokens = tonumber(ARGV[5])
+
+            local requests = refill(KEYS[1], rpm)
+            local tokens = refill(KEYS[2], tpm)
+            local grantedRequests, grantedTokens, waitMs = 0, 0, 0
+
+            if requests >= 1 and tokens >= minTokens then
+              grantedRequests = math.min(math.floor(requests), wantRequests)
+              grantedTokens = math.max(minTokens, math.min(math.floor(tokens), wantTokens))
+              requests = requests - grantedRequests
+              tokens = tokens - grantedTokens
+            else
+              waitMs = math.ceil(math.max((1 - requests) * 60000 / rpm, (minTokens - tokens) * 60000 / tpm, 1))
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(requests), 'ts', now)
+            redis.call('HSET', KEYS[2], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            redis.call('PEXPIRE', KEYS[2], ARGV[6])
+
+            return {grantedRequests, grantedTokens, waitMs}
+            """, List.class);
+
+    /**
+     * 토큰 버킷을 경과 시간만큼 채운 뒤 추정치와 실제 사용량 차이 반영 (음수 잔량 허용)
+     * KEYS: 토큰 버킷 / ARGV: TPM, 추가 차감 토큰 수, 키 TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tpm = tonumber(ARGV[1])
+
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+              tokens = tpm
+            else
+              tokens = math.min(tpm, tokens + math.max(0, now - ts) * tpm / 60000)
+            end
+
+            tokens = math.min(tpm, tokens - tonumber(ARGV[2]))
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** Redis 장애 시 이 서버 몫 버킷 */
+    private final LocalTokenBucket fallbackBucket;
+
+    /** 전체 서버 분당 요청 수 */
+    private final long requestsPerMinute;
+
+    /** 전체 서버 분당 토큰 수 */
+    private final long tokensPerMinute;
+
+    /** Redis 1회 조회 시 미리 받는 요청 수 */
+    private final long prefetchRequests;
+
+    /** Redis 1회 조회 시 미리 받는 토큰 수 */
+    private final long prefetchTokens;
+
+    /** 미리 받은 몫 유지 시간 */
+    private final long prefetchTtlMs;
+
+    /** 허용량이 찰 때까지 기다리는 최대 시간 */
+    private final long maxWaitMs;
+
+    private final AtomicBoolean degraded = new AtomicBoolean(false);
+
+    private long leasedRequests;
+    private long leasedTokens;
+    private long leaseExpiresAt;
+
+    public OpenAIRateLimiter(StringRedisTemplate stringRedisTemplate,
+                             @Value("${openai.rate-limit.requests-per-minute:500}") long requestsPerMinute,
+                             @Value("${openai.rate-limit.tokens-per-minute:200000}") long tokensPerMinute,
+                             @Value("${openai.rate-limit.prefetch-requests:5}") long prefetchRequests,
+                             @Value("${openai.rate-limit.prefetch-tokens:5000}") long prefetchTokens,
+                             @Value("${openai.rate-limit.prefetch-ttl-ms:1000}") long prefetchTtlMs,
+                             @Value("${openai.rate-limit.max-wait-ms:10000}") long maxWaitMs,
+                             @Value("${openai.rate-limit.fallback-node-count:4}") int fallbackNodeCount) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.requestsPerMinute = requestsPerMinute;
+        this.tokensPerMinute = tokensPerMinute;
+        this.prefetchRequests = Math.max(1, prefetchRequests);
+        this.prefetchTokens = prefetchTokens;
+        this.prefetchTtlMs = prefetchTtlMs;
+        this.maxWaitMs = maxWaitMs;
+        this.fallbackBucket = new LocalTokenBucket(
+                Math.max(1d, (double) requestsPerMinute / fallbackNodeCount),
+                Math.max(1d, (double) tokensPerMinute / fallbackNodeCount)
+        );
+    }
+
+    /**
+     * 요청 1회와 추정 토큰 확보
+     * <p>
+     *     허용량이 부족하면 스레드를 재우지 않고 필요한 시간만큼 지연 후 다시 시도하며,
+     *     maxWait 안에 확보할 수 없으면 요청 제한 초과로 실패한다.
+     * </p>
+     * @param estimatedTokens 요청 추정 토큰 수 (프롬프트 + 응답)
+     * @return 확보되면 완료되는 Mono
+     */
+    public Mono<Void> acquire(long estimatedTokens) {
+        return Mono.defer(() -> {
+            long deadline = System.currentTimeMillis() + maxWaitMs;
+            long requiredTokens = Math.min(estimatedTokens, tokensPerMinute);
+
+            return tryAcquire(requiredTokens, deadline);
+        });
+    }
+
+    /**
+     * 추정 토큰과 실제 사용량 차이 반영
+     * @param estimatedTokens 확보한 추정 토큰 수
+     * @param usedTokens      응답의 실제 사용 토큰 수
+     * @return 반영되면 완료되는 Mono (Redis 장애 시 로컬 버킷에 반영)
+     */
+    public Mono<Void> reconcile(long estimatedTokens, long usedTokens) {
+        long difference = usedTokens - Math.min(estimatedTokens, tokensPerMinute);
+
+        if (difference == 0) {
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(() -> {
+                    stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(TOKEN_BUCKET_KEY),
+                            String.valueOf(tokensPerMinute), String.valueOf(difference), String.valueOf(BUCKET_TTL_MS));
+                    markRecovered();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(DataAccessException.class, ex -> {
+                    markDegraded(ex);
+                    fallbackBucket.adjust(difference);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> tryAcquire(long requiredTokens, long deadline) {
+        if (takeFromLease(requiredTokens)) {
+            return Mono.empty();
+        }
+
+        return reserve(requiredTokens).flatMap(waitMs -> {
+            if (waitMs <= 0) {
+                return Mono.<Void>empty();
+            }
+
+            if (System.currentTimeMillis() + waitMs > deadline) {
+                return Mono.error(new CustomException(ErrorCode.API_RATE_LIMIT_EXCEEDED));
+            }
+
+            return Mono.delay(Duration.ofMillis(waitMs))
+                    .then(Mono.defer(() -> tryAcquire(requiredTokens, deadline)));
+        });
+    }
+
+    /**
+     * Redis 버킷에서 확보 (실패 시 로컬 버킷)
+     * @return 0이면 확보 성공, 아니면 대기 시간 (ms)
+     */
+    private Mono<Long> reserve(long requiredTokens) {
+        return Mono.fromCallable(() -> reserveFromRedis(requiredTokens))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(DataAccessException.class, ex -> {
+                    markDegraded(ex);
+                    return Mono.just(fallbackBucket.tryAcquire(requiredTokens));
+                });
+    }
+
+    private long reserveFromRedis(long requiredTokens) {
+        List<?> result = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(REQUEST_BUCKET_KEY, TOKEN_BUCKET_KEY),
+                String.valueOf(requestsPerMinute),
+                String.valueOf(tokensPerMinute),
+                String.valueOf(prefetchRequests),
+                String.valueOf(requiredTokens),
+                String.valueOf(Math.max(requiredTokens, prefetchTokens)),
+                String.valueOf(BUCKET_TTL_MS));
+
+        markRecovered();
+
+        long grantedRequests = ((Number) result.get(0)).longValue();
+        long grantedTokens = ((Number) result.get(1)).longValue();
+        long waitMs = ((Number) result.get(2)).longValue();
+
+        if (waitMs > 0) {
+            return waitMs;
+        }
+
+        // 이번 요청 몫을 제외한 나머지는 로컬에서 차감
+        addLease(grantedRequests - 1, grantedTokens - requiredTokens);
+
+        return 0;
+    }
+
+    private synchronized boolean takeFromLease(long requiredTokens) {
+        if (System.currentTimeMillis() > leaseExpiresAt) {
+            leasedRequests = 0;
+            leasedTokens = 0;
+        }
+
+        if (leasedRequests < 1 || leasedTokens < requiredTokens) {
+            return false;
+        }
+
+        leasedRequests -= 1;
+        leasedTokens -= requiredTokens;
+
+        return true;
+    }
+
+    private synchronized void addLease(long requests, long tokens) {
+        if (System.currentTimeMillis() > leaseExpiresAt) {
+            leasedRequests = 0;
+            leasedTokens = 0;
+        }
+
+        leasedRequests += requests;
+        leasedTokens += tokens;
+        leaseExpiresAt = System.currentTimeMillis() + prefetchTtlMs;
+    }
+
+    private void markDegraded(Exception ex) {
+        if (degraded.compareAndSet(false, true)) {
+            log.warn("OpenAI 요청 제한 Redis 사용 불가, 로컬 버킷으로 제한: {}", ex.getMessage());
+        }
+    }
+
+    private void markRecovered() {
+        if (degraded.compareAndSet(true, false)) {
+            log.info("OpenAI 요청 제한 Redis 복구, 전체 서버 공용 버킷으로 제한");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.budget.ai.external.openai;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OpenAI 호출 용도별 서킷 브레이커·벌크헤드
+ * <p>
+ *     카테고리 분류와 절약 추천은 호출 빈도와 응답 시간이 달라 서로 다른 서킷 브레이커·세마포어 벌크헤드를 쓴다.
+ *     한 용도의 OpenAI 장애(시간 초과·5xx·느린 응답)가 다른 용도와 요청 스레드를 붙잡지 않도록,
+ *     서킷이 열렸거나 동시 호출 수가 찼으면 대기 없이 API_CALL_UNAVAILABLE 로 실패한다.
+ * </p>
+ */
+@Component
+public class OpenAIResilience {
+
+    /** 서킷 브레이커가 장애로 기록하는 오류 (응답 형식 오류·요청 제한은 제외) */
+    private static final Set<ErrorCode> OUTAGE_ERROR_CODES = Set.of(ErrorCode.API_CALL_TIMEOUT, ErrorCode.API_CALL_SERVER_ERROR);
+
+    /**
+     * OpenAI 호출 용도
+     */
+    public enum Traffic {
+        /** 가맹점 카테고리 분류 */
+        CLASSIFY,
+
+        /** 카테고리별 절약 추천 */
+        RECOMMEND
+    }
+
+    private final Map<Traffic, CircuitBreaker> circuitBreakerMap = new EnumMap<>(Traffic.class);
+    private final Map<Traffic, Bulkhead> bulkheadMap = new EnumMap<>(Traffic.class);
+
+    public OpenAIResilience(@Value("${openai.resilience.classify.failure-rate-threshold:50}") float classifyFailureRateThreshold,
+                            @Value("${openai.resilience.classify.slow-call-seconds:20}") long classifySlowCallSeconds,
+                            @Value("${openai.resilience.classify.open-seconds:30}") long classifyOpenSeconds,
+                            @Value("${openai.resilience.classify.max-concurrent-calls:4}") int classifyMaxConcurrentCalls,
+                            @Value("${openai.resilience.recommend.failure-rate-threshold:50}") float recommendFailureRateThreshold,
+                            @Value("${openai.resilience.recommend.slow-call-seconds:20}") long recommendSlowCallSeconds,
+                            @Value("${openai.resilience.recommend.open-seconds:30}") long recommendOpenSeconds,
+                            @Value("${openai.resilience.recommend.max-concurrent-calls:20}") int recommendMaxConcurrentCalls) {
+        register(Traffic.CLASSIFY, classifyFailureRateThreshold, classifySlowCallSeconds, classifyOpenSeconds, classifyMaxConcurrentCalls);
+        register(Traffic.RECOMMEND, recommendFailureRateThreshold, recommendSlowCallSeconds, recommendOpenSeconds, recommendMaxConcurrentCalls);
+    }
+
+    /**
+     * 서킷 브레이커·벌크헤드 적용
+     * <p>
+     *     벌크헤드를 바깥에 두어 동시 호출 수 초과로 거절된 호출은 서킷 브레이커 실패율에 포함하지 않는다.
+     * </p>
+     * @param traffic 호출 용도
+     * @param call    OpenAI 호출
+     * @return 서킷이 열렸거나 동시 호출 수가 차면 API_CALL_UNAVAILABLE 로 즉시 실패하는 호출
+     */
+    public <T> Mono<T> decorate(Traffic traffic, Mono<T> call) {
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerMap.get(traffic)))
+                .transformDeferred(BulkheadOperator.of(bulkheadMap.get(traffic)))
+                .onErrorMap(ex -> ex instanceof CallNotPermittedException || ex instanceof BulkheadFullException,
+                        ex -> new CustomException(ErrorCode.API_CALL_UNAVAILABLE));
+    }
+
+    /**
+     * 서킷 브레이커·벌크헤드 적용 (스트리밍 호출)
+     * <p>
+     *     벌크헤드 자리는 스트림이 끝날 때까지 점유하고, 응답 시간은 마지막 조각까지로 판단한다.
+     * </p>
+     * @param traffic 호출 용도
+     * @param call    OpenAI 스트리밍 호출
+     * @return 서킷이 열렸거나 동시 호출 수가 차면 API_CALL_UNAVAILABLE 로 즉시 실패하는 호출
+     */
+    public <T> Flux<T> decorate(Traffic traffic, Flux<T> call) {
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerMap.get(traffic)))
+                .transformDeferred(BulkheadOperator.of(bulkheadMap.get(traffic)))
+                .onErrorMap(ex -> ex instanceof CallNotPermittedException || ex instanceof BulkheadFullException,
+                        ex -> new CustomException(ErrorCode.API_CALL_UNAVAILABLE));
+    }
+
+    /**
+     * 서킷 브레이커·벌크헤드 거절 여부
+     * @param throwable 호출 오류
+     * @return 빠른 실패(대체 응답 대상)이면 true
+     */
+    public static boolean isUnavailable(Throwable throwable) {
+        return throwable instanceof CustomException exception
+                && exception.getErrorCode() == ErrorCode.API_CALL_UNAVAILABLE;
+    }
+
+    private void register(Traffic traffic, float failureRateThreshold, long slowCallSeconds, long openSeconds,
+                          int maxConcurrentCalls) {
+        String name = "openai-" + traffic.name().toLowerCase();
+
+        // 최근 20회 중 10회 이상 호출됐을 때 실패·느린 호출 비율이 기준을 넘으면 openSeconds 동안 차단, 이후 3회 시험 호출
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofSeconds(slowCallSeconds))
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(OpenAIResilience::isOutage)
+                .build();
+
+        // 세마포어 벌크헤드, 대기 없이 거절
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        circuitBreakerMap.put(traffic, CircuitBreaker.of(name, circuitBreakerConfig));
+        bulkheadMap.put(traffic, Bulkhead.of(name, bulkheadConfig));
+    }
+
+    private static boolean isOutage(Throwable throwable) {
+        if (throwable instanceof CustomException exception) {
+            return OUTAGE_ERROR_CODES.contains(exception.getErrorCode());
+        }
+
+        return true;
+    }
+}
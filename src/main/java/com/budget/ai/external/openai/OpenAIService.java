@@ -1,61 +1,259 @@
 package com.budget.ai.external.openai;
 
+import com.budget.ai.external.openai.dto.CategoryChoices;
 import com.budget.ai.external.openai.dto.OpenAIRequest;
 import com.budget.ai.external.openai.dto.OpenAIResponse;
+import com.budget.ai.external.openai.dto.OpenAIStreamChunk;
 import com.budget.ai.response.CustomException;
 import com.budget.ai.response.ErrorCode;
 import com.budget.ai.transaction.dto.response.SumCategoryTransactionResponse;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.*;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * OpenAI API 호출 Service
+ * <p>
+ *     모든 호출은 Mono 를 반환하는 비동기 메서드가 기본이며, 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ *     요청 제한은 전체 서버 공용 Redis 버킷(OpenAIRateLimiter)으로, 재시도는 resilience4j Reactor 연산자로 재구독해 처리한다.
+ *     이름에 Async 가 없는 메서드는 동기 호출부(동기화, 백그라운드 분류)를 위한 block 어댑터다.
+ * </p>
+ * <p>
+ *     호출 용도(분류·추천)별 서킷 브레이커·벌크헤드({@link OpenAIResilience})를 거치며, 실패는 API 호출 ErrorCode 로 변환한다.
+ *     서킷이 열렸거나 동시 호출 수가 차서 빠르게 실패하면 분류는 임시 카테고리(기타)로 대체하고,
+ *     추천은 API_CALL_UNAVAILABLE 을 호출부에 넘겨 이전 추천 또는 안내 응답으로 대체하게 한다.
+ * </p>
+ */
+@Slf4j
 @Service
 public class OpenAIService {
 
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(60);
+
+    /** OpenAI 를 사용할 수 없을 때 임시 카테고리 */
+    private static final String PROVISIONAL_CATEGORY_CODE = "ETC";
+
     private final WebClient webClient;
-    private final RateLimiter rateLimiter;
+    private final OpenAIRateLimiter rateLimiter;
+    private final OpenAIResilience resilience;
+    private final OpenAIMetrics metrics;
+    private final Map<OpenAIResilience.Traffic, Retry> retryMap = new EnumMap<>(OpenAIResilience.Traffic.class);
+    private final ObjectMapper objectMapper;
+
+    /** 일괄 분류 요청 1회당 가맹점 수 */
+    private final int classifyBatchSize;
+
+    /** 일괄 분류 시 누락·잘못된 응답 가맹점 재시도 횟수 */
+    private final int classifyMaxRetry;
 
-    public OpenAIService(@Qualifier("openAIWebClient") WebClient webClient) {
+    /** 요청 제한용 응답 추정 토큰 수 (실제 사용량은 응답 후 반영) */
+    private final int estimatedCompletionTokens;
+
+    public OpenAIService(@Qualifier("openAIWebClient") WebClient webClient,
+                         OpenAIRateLimiter rateLimiter,
+                         OpenAIResilience resilience,
+                         OpenAIMetrics metrics,
+                         ObjectMapper objectMapper,
+                         @Value("${openai.classify.batch-size:50}") int classifyBatchSize,
+                         @Value("${openai.classify.max-retry:2}") int classifyMaxRetry,
+                         @Value("${openai.rate-limit.estimated-completion-tokens:500}") int estimatedCompletionTokens) {
         this.webClient = webClient;
+        this.rateLimiter = rateLimiter;
+        this.resilience = resilience;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.classifyBatchSize = classifyBatchSize;
+        this.classifyMaxRetry = classifyMaxRetry;
+        this.estimatedCompletionTokens = estimatedCompletionTokens;
 
-        //3초당 5회 요청 제한, 타임아웃 10초
-        RateLimiterConfig config = RateLimiterConfig.custom()
-                .limitForPeriod(5)
-                .limitRefreshPeriod(Duration.ofSeconds(3))
-                .timeoutDuration(Duration.ofSeconds(10))
+        //429 응답만 2초부터 지수 백오프(jitter 포함)로 최대 3회 재시도
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(4)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(Duration.ofSeconds(2), 2.0, 0.5))
+                .retryOnException(throwable -> throwable instanceof WebClientResponseException.TooManyRequests)
                 .build();
 
-        this.rateLimiter = RateLimiter.of("openai", config);
+        // 재시도 횟수를 호출 용도별로 기록하도록 용도마다 Retry 분리
+        for (OpenAIResilience.Traffic traffic : OpenAIResilience.Traffic.values()) {
+            Retry retry = Retry.of("openai-" + traffic.name().toLowerCase(), retryConfig);
+            retry.getEventPublisher().onRetry(event -> metrics.recordRetry(traffic));
+            retryMap.put(traffic, retry);
+        }
     }
 
     private static final String URL = "/chat/completions";
     private static final String MODEL = "gpt-4o-mini";
 
+    /** 스트리밍 응답 종료 표시 (SSE data) */
+    private static final String STREAM_DONE = "[DONE]";
+    private static final Set<String> CATEGORY_CODES = Set.of(
+            "CAFE", "FOOD", "TRANSPORTATION", "MART", "CONVENIENCE_STORE", "LIVING", "CULTURE", "ETC"
+    );
+
     /**
      * 카테고리 자동 매핑
      * @param merchantName 상호명
      * @return 카테고리명
      */
     public String chooseCategory(String merchantName) {
+        return chooseCategoryAsync(merchantName).block();
+    }
+
+    /**
+     * 카테고리 자동 매핑 (비동기)
+     * @param merchantName 상호명
+     * @return 카테고리명, OpenAI 를 사용할 수 없으면 임시 카테고리(ETC)
+     */
+    public Mono<String> chooseCategoryAsync(String merchantName) {
         String prompt = String.format(
                 "다음 가맹점 이름을 보고 CAFE, FOOD, TRANSPORTATION, MART, CONVENIENCE_STORE, LIVING, CULTURE 중 하나로만 카테고리를 답해주세요." +
                         "만약 아무것도 속하지 않는다면 ETC 라고 답해주세요." +
                         "가맹점 이름: %s", merchantName
         );
 
-        String content = callOpenAIApi(prompt);
+        return callOpenAIApiAsync(prompt, OpenAIResilience.Traffic.CLASSIFY)
+                .map(content -> content.trim().toUpperCase())
+                .onErrorResume(OpenAIResilience::isUnavailable, ex -> Mono.just(PROVISIONAL_CATEGORY_CODE));
+    }
 
-        return content.trim().toUpperCase();
+    /**
+     * 카테고리 일괄 자동 매핑
+     * <p>
+     *     중복 제거한 가맹점 이름을 classifyBatchSize 개씩 묶어 한 번의 요청으로 분류한다.
+     *     응답에서 누락되었거나 올바르지 않은 카테고리인 가맹점만 모아 최대 classifyMaxRetry 회 재요청한다.
+     * </p>
+     * @param merchantNames 상호명 목록
+     * @return 상호명 → 카테고리 코드 (끝까지 분류되지 않은 상호명은 포함되지 않음),
+     *         OpenAI 를 사용할 수 없으면 모든 상호명을 임시 카테고리(ETC)로 채운 임시 결과
+     */
+    public CategoryChoices chooseCategories(Collection<String> merchantNames) {
+        return chooseCategoriesAsync(merchantNames).block();
+    }
+
+    /**
+     * 카테고리 일괄 자동 매핑 (비동기)
+     * @param merchantNames 상호명 목록
+     * @return 상호명 → 카테고리 코드 (끝까지 분류되지 않은 상호명은 포함되지 않음),
+     *         OpenAI 를 사용할 수 없으면 모든 상호명을 임시 카테고리(ETC)로 채운 임시 결과
+     */
+    public Mono<CategoryChoices> chooseCategoriesAsync(Collection<String> merchantNames) {
+        List<String> distinctNames = merchantNames.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+
+        return classifyRemaining(distinctNames, Map.of(), 0)
+                .map(CategoryChoices::classified)
+                .onErrorResume(OpenAIResilience::isUnavailable, ex ->
+                        Mono.just(CategoryChoices.provisional(distinctNames, PROVISIONAL_CATEGORY_CODE)));
+    }
+
+    /**
+     * 남은 가맹점 묶음 순차 분류 후 누락·잘못된 응답 가맹점만 다시 분류
+     * @param remaining 분류할 상호명 목록
+     * @param result    지금까지 분류된 상호명 → 카테고리 코드
+     * @param attempt   시도 횟수 (0부터)
+     * @return 상호명 → 카테고리 코드
+     */
+    private Mono<Map<String, String>> classifyRemaining(List<String> remaining, Map<String, String> result, int attempt) {
+        if (remaining.isEmpty() || attempt > classifyMaxRetry) {
+            return Mono.just(result);
+        }
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < remaining.size(); from += classifyBatchSize) {
+            chunks.add(remaining.subList(from, Math.min(from + classifyBatchSize, remaining.size())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(this::requestCategoriesAsync)
+                .collect(() -> new HashMap<>(result), Map::putAll)
+                .flatMap(merged -> {
+                    List<String> unresolved = remaining.stream()
+                            .filter(name -> !merged.containsKey(name))
+                            .toList();
+
+                    return classifyRemaining(unresolved, merged, attempt + 1);
+                });
+    }
+
+    /**
+     * 가맹점 묶음 1회 분류 요청
+     * <p>
+     *     번호를 붙인 가맹점 목록을 보내고 {"번호":"카테고리"} JSON을 받아 가맹점별로 검증한다.
+     * </p>
+     * @param merchantNames 상호명 목록
+     * @return 올바르게 분류된 상호명 → 카테고리 코드
+     */
+    private Mono<Map<String, String>> requestCategoriesAsync(List<String> merchantNames) {
+        StringBuilder promptBuilder = new StringBuilder();
+
+        promptBuilder.append("다음 가맹점 이름들을 보고 각각 CAFE, FOOD, TRANSPORTATION, MART, CONVENIENCE_STORE, LIVING, CULTURE 중 하나로 카테고리를 지정해주세요. ")
+                .append("만약 아무것도 속하지 않는다면 ETC 로 지정해주세요.\n");
+
+        for (int i = 0; i < merchantNames.size(); i++) {
+            promptBuilder.append(i).append(". ").append(merchantNames.get(i)).append("\n");
+        }
+
+        promptBuilder.append("답변은 번호를 key, 카테고리를 value로 하는 JSON 형태로 반환해주세요. 예시는 {\"0\":\"CAFE\", \"1\":\"FOOD\"} 와 같이 반환해주세요.")
+                .append("또한, ```json``` 같은 마크다운 블록은 제거하고 순수 JSON만 반환해주세요.");
+
+        return callOpenAIApiAsync(promptBuilder.toString(), OpenAIResilience.Traffic.CLASSIFY)
+                .map(content -> parseCategories(content, merchantNames));
+    }
+
+    /**
+     * 분류 응답 JSON 검증
+     * @param content       {"번호":"카테고리"} JSON
+     * @param merchantNames 요청한 상호명 목록
+     * @return 올바르게 분류된 상호명 → 카테고리 코드
+     */
+    private Map<String, String> parseCategories(String content, List<String> merchantNames) {
+        Map<String, String> answer;
+        try {
+            answer = objectMapper.readValue(content, new TypeReference<Map<String, String>>() {});
+        } catch (JsonProcessingException e) {
+            // 전체 응답이 잘못된 경우 묶음 전체를 재시도 대상으로 남긴다
+            return Map.of();
+        }
+
+        Map<String, String> result = new HashMap<>();
+
+        for (int i = 0; i < merchantNames.size(); i++) {
+            String code = answer.get(String.valueOf(i));
+
+            if (code == null) {
+                continue;
+            }
+
+            String normalizedCode = code.trim().toUpperCase();
+            if (CATEGORY_CODES.contains(normalizedCode)) {
+                result.put(merchantNames.get(i), normalizedCode);
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -64,6 +262,32 @@ public class OpenAIService {
      * @return
      */
     public String recommendSavingForCategory(SumCategoryTransactionResponse response) {
+        return recommendSavingForCategoryAsync(response).block();
+    }
+
+    /**
+     * 카테고리별 절약 방법 추천 (비동기)
+     * @param response 카테고리별 정보
+     * @return 카테고리명 → 절약 방법 JSON, OpenAI 를 사용할 수 없으면 API_CALL_UNAVAILABLE 로 즉시 실패
+     */
+    public Mono<String> recommendSavingForCategoryAsync(SumCategoryTransactionResponse response) {
+        return callOpenAIApiAsync(recommendSavingPrompt(response), OpenAIResilience.Traffic.RECOMMEND);
+    }
+
+    /**
+     * 카테고리별 절약 방법 추천 (스트리밍)
+     * <p>
+     *     stream=true 로 요청해 응답 내용을 도착하는 조각 그대로 흘려보낸다.
+     *     조각을 모두 이으면 {@link #recommendSavingForCategoryAsync} 의 응답과 같은 형식의 JSON 이다.
+     * </p>
+     * @param response 카테고리별 정보
+     * @return 카테고리명 → 절약 방법 JSON 조각, OpenAI 를 사용할 수 없으면 API_CALL_UNAVAILABLE 로 즉시 실패
+     */
+    public Flux<String> streamRecommendSavingForCategory(SumCategoryTransactionResponse response) {
+        return callOpenAIStreamAsync(recommendSavingPrompt(response), OpenAIResilience.Traffic.RECOMMEND);
+    }
+
+    private String recommendSavingPrompt(SumCategoryTransactionResponse response) {
         StringBuilder promptBuilder = new StringBuilder();
 
         promptBuilder.append("총 금액 : ").append(response.totalSum()).append("원\n");
@@ -82,48 +306,197 @@ public class OpenAIService {
                 .append("답변은 JSON 형태로 반환해주세요. 예시는 {\"교통\":\"택시 \", \"편의점\":\"간식 구매 줄이기\"} 와 같이 반환해주세요.")
                 .append("또한, ```json``` 같은 마크다운 블록은 제거하고 순수 JSON만 반환해주세요.");
 
-        return callOpenAIApi(promptBuilder.toString());
+        return promptBuilder.toString();
     }
 
-    private String callOpenAIApi(String prompt) {
+    /**
+     * OpenAI API 호출
+     * <p>
+     *     프롬프트 길이(문자 수, 한글은 대체로 1자 1토큰 이하)와 응답 추정치로 토큰을 먼저 확보하고,
+     *     응답의 실제 사용량으로 차이를 보정한다. 요청 제한에 걸리면 스레드를 재우지 않고 구독을 지연하며,
+     *     최대 대기 시간을 넘으면 요청 제한 초과로 실패한다. 재시도는 요청 제한을 다시 거쳐 재구독하므로 재시도 요청도 허용량에 포함된다.
+     * </p>
+     * <p>
+     *     요청 제한 대기 시간, HTTP 호출 1회 응답 시간, 429 응답, 토큰 사용량을 호출 용도별로 {@link OpenAIMetrics} 에 기록한다.
+     * </p>
+     * @param prompt  프롬프트
+     * @param traffic 호출 용도 (서킷 브레이커·벌크헤드 구분)
+     * @return 응답 본문
+     */
+    private Mono<String> callOpenAIApiAsync(String prompt, OpenAIResilience.Traffic traffic) {
         OpenAIRequest request = new OpenAIRequest(
                 MODEL,
                 List.of(new OpenAIRequest.Message("user", prompt)),
                 0.0
         );
 
-        Callable<String> call = RateLimiter.decorateCallable(rateLimiter, () -> {
-            OpenAIResponse response = webClient.post()
+        long estimatedTokens = (long) prompt.length() + estimatedCompletionTokens;
+
+        Mono<String> call = acquire(estimatedTokens, traffic)
+                .then(post(request, traffic))
+                .transformDeferred(RetryOperator.of(retryMap.get(traffic)))
+                .timeout(RESPONSE_TIMEOUT)
+                .flatMap(response -> {
+                    if (response.usage() == null) {
+                        return Mono.just(response);
+                    }
+
+                    metrics.recordTokens(traffic, response.usage().promptTokens(), response.usage().completionTokens());
+
+                    if (response.usage().totalTokens() == null) {
+                        return Mono.just(response);
+                    }
+
+                    return rateLimiter.reconcile(estimatedTokens, response.usage().totalTokens())
+                            .thenReturn(response);
+                })
+                .map(response -> {
+                    if (response.choices() == null || response.choices().isEmpty()) {
+                        throw new CustomException(ErrorCode.API_CALL_WRONG_ANSWER);
+                    }
+
+                    String content = response.choices().get(0).message().content();
+                    if (content == null || !StringUtils.hasText(content)) {
+                        throw new CustomException(ErrorCode.API_CALL_WRONG_ANSWER);
+                    }
+
+                    log.debug("OpenAI 응답 ({}): {}", traffic, content);
+
+                    return content;
+                })
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.API_CALL_WRONG_ANSWER)))
+                .onErrorMap(ex -> !(ex instanceof CustomException), this::toCustomException);
+
+        return resilience.decorate(traffic, call);
+    }
+
+    /**
+     * OpenAI API 스트리밍 호출
+     * <p>
+     *     요청 제한·재시도·서킷 브레이커·벌크헤드·오류 변환은 {@link #callOpenAIApiAsync} 와 같다.
+     *     응답 제한 시간은 조각 사이 최대 간격에 적용하고, 토큰 사용량은 마지막 조각에서 기록·보정한다.
+     *     429 는 첫 조각 전에만 오므로 재시도로 이미 보낸 조각이 중복되지 않는다.
+     * </p>
+     * @param prompt  프롬프트
+     * @param traffic 호출 용도 (서킷 브레이커·벌크헤드 구분)
+     * @return 응답 내용 조각
+     */
+    private Flux<String> callOpenAIStreamAsync(String prompt, OpenAIResilience.Traffic traffic) {
+        OpenAIRequest request = OpenAIRequest.streaming(
+                MODEL,
+                List.of(new OpenAIRequest.Message("user", prompt)),
+                0.0
+        );
+
+        long estimatedTokens = (long) prompt.length() + estimatedCompletionTokens;
+
+        Flux<String> call = acquire(estimatedTokens, traffic)
+                .thenMany(stream(request, traffic))
+                .transformDeferred(RetryOperator.of(retryMap.get(traffic)))
+                .timeout(RESPONSE_TIMEOUT)
+                .concatMap(chunk -> {
+                    if (chunk.usage() != null) {
+                        metrics.recordTokens(traffic, chunk.usage().promptTokens(), chunk.usage().completionTokens());
+
+                        if (chunk.usage().totalTokens() != null) {
+                            return rateLimiter.reconcile(estimatedTokens, chunk.usage().totalTokens())
+                                    .then(Mono.<String>empty());
+                        }
+                    }
+
+                    if (chunk.choices() == null || chunk.choices().isEmpty() || chunk.choices().get(0).delta() == null) {
+                        return Mono.<String>empty();
+                    }
+
+                    return Mono.justOrEmpty(chunk.choices().get(0).delta().content());
+                })
+                .onErrorMap(ex -> !(ex instanceof CustomException), this::toCustomException);
+
+        return resilience.decorate(traffic, call);
+    }
+
+    /**
+     * 요청 제한 허용량 확보 (대기 시간 기록, 재시도마다 재구독)
+     */
+    private Mono<Void> acquire(long estimatedTokens, OpenAIResilience.Traffic traffic) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            return rateLimiter.acquire(estimatedTokens)
+                    .doFinally(signal -> metrics.recordRateLimiterWait(traffic,
+                            Duration.ofNanos(System.nanoTime() - startedAt)));
+        });
+    }
+
+    /**
+     * HTTP 호출 1회 (응답 시간·429 응답 기록, 재시도마다 재구독)
+     */
+    private Mono<OpenAIResponse> post(OpenAIRequest request, OpenAIResilience.Traffic traffic) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            return webClient.post()
                     .uri(URL)
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(OpenAIResponse.class)
-                    .retryWhen(
-                            Retry.backoff(3, Duration.ofSeconds(2))
-                                    .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests)
-                    )
-                    .block(Duration.ofSeconds(60));
-
-            if (response == null || response.choices() == null || response.choices().isEmpty()) {
-                throw new CustomException(ErrorCode.API_CALL_WRONG_ANSWER);
-            }
-
-            String content = response.choices().get(0).message().content();
-            if (content == null || !StringUtils.hasText(content)) {
-                throw new CustomException(ErrorCode.API_CALL_WRONG_ANSWER);
-            }
+                    .doOnSuccess(response -> metrics.recordLatency(traffic, "success",
+                            Duration.ofNanos(System.nanoTime() - startedAt)))
+                    .doOnError(ex -> recordFailure(traffic, ex, startedAt));
+        });
+    }
 
-            System.out.println("content = " + content);
+    /**
+     * 스트리밍 HTTP 호출 1회 (마지막 조각까지의 응답 시간·429 응답 기록, 재시도마다 재구독)
+     */
+    private Flux<OpenAIStreamChunk> stream(OpenAIRequest request, OpenAIResilience.Traffic traffic) {
+        return Flux.defer(() -> {
+            long startedAt = System.nanoTime();
 
-            return content;
+            return webClient.post()
+                    .uri(URL)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                    .mapNotNull(ServerSentEvent::data)
+                    .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+                    .map(this::parseChunk)
+                    .doOnComplete(() -> metrics.recordLatency(traffic, "success",
+                            Duration.ofNanos(System.nanoTime() - startedAt)))
+                    .doOnError(ex -> recordFailure(traffic, ex, startedAt));
         });
+    }
 
+    private OpenAIStreamChunk parseChunk(String data) {
         try {
-            return call.call();
-        } catch (RequestNotPermitted ex) {
-            throw new CustomException(ErrorCode.API_RATE_LIMIT_EXCEEDED);
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
+            return objectMapper.readValue(data, OpenAIStreamChunk.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.API_CALL_WRONG_ANSWER);
+        }
+    }
+
+    private void recordFailure(OpenAIResilience.Traffic traffic, Throwable throwable, long startedAt) {
+        boolean rateLimited = throwable instanceof WebClientResponseException.TooManyRequests;
+        if (rateLimited) {
+            metrics.recordRateLimited(traffic);
         }
+
+        metrics.recordLatency(traffic, rateLimited ? "rate_limited" : "error",
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private CustomException toCustomException(Throwable throwable) {
+        // 응답 제한 시간 초과, 커넥션 풀의 응답 조각 사이 읽기 제한 초과
+        if (throwable instanceof TimeoutException || throwable.getCause() instanceof ReadTimeoutException) {
+            return new CustomException(ErrorCode.API_CALL_TIMEOUT);
+        }
+
+        if (throwable instanceof WebClientResponseException exception && exception.getStatusCode().is4xxClientError()) {
+            return new CustomException(ErrorCode.API_CALL_CLIENT_ERROR);
+        }
+
+        // 5xx, 연결 실패 (WebClientRequestException) 등
+        return new CustomException(ErrorCode.API_CALL_SERVER_ERROR);
     }
 }
@@ -0,0 +1,35 @@
+package com.budget.ai.external.openai.dto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 일괄 자동 매핑 결과
+ * @param categoryCodes 상호명 → 카테고리 코드
+ * @param provisional   OpenAI 를 사용할 수 없어 임시 카테고리로 채운 결과이면 true (기록·학습 금지, 나중에 다시 분류)
+ */
+public record CategoryChoices(
+        Map<String, String> categoryCodes,
+        boolean provisional
+) {
+
+    /**
+     * OpenAI 분류 결과
+     */
+    public static CategoryChoices classified(Map<String, String> categoryCodes) {
+        return new CategoryChoices(categoryCodes, false);
+    }
+
+    /**
+     * 모든 상호명을 임시 카테고리로 채운 결과
+     */
+    public static CategoryChoices provisional(Collection<String> merchantNames, String provisionalCode) {
+        Map<String, String> categoryCodes = merchantNames.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), name -> provisionalCode));
+
+        return new CategoryChoices(categoryCodes, true);
+    }
+}
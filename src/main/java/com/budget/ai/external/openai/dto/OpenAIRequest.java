@@ -1,5 +1,7 @@
 package com.budget.ai.external.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -8,6 +10,7 @@ import java.util.List;
  * OpenAI API 데이터 요청 DTO
  */
 @Schema(description = "OpenAI API 데이터 요청 DTO")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record OpenAIRequest(
 
         // 모델
@@ -17,8 +20,29 @@ public record OpenAIRequest(
         List<Message> messages,
 
         // 텍스트 다양성
-        Double temperature
+        Double temperature,
+
+        // 스트리밍 응답 여부 (SSE 로 조각 단위 응답)
+        Boolean stream,
+
+        // 스트리밍 옵션 (마지막 조각에 토큰 사용량 포함)
+        @JsonProperty("stream_options")
+        StreamOptions streamOptions
 ) {
+    /**
+     * 일반 요청 (응답 전체를 한 번에 받음)
+     */
+    public OpenAIRequest(String model, List<Message> messages, Double temperature) {
+        this(model, messages, temperature, null, null);
+    }
+
+    /**
+     * 스트리밍 요청 (토큰 사용량 포함)
+     */
+    public static OpenAIRequest streaming(String model, List<Message> messages, Double temperature) {
+        return new OpenAIRequest(model, messages, temperature, true, new StreamOptions(true));
+    }
+
     public record Message(
             // system, user, assistant
             String role,
@@ -27,4 +51,11 @@ public record OpenAIRequest(
             String content
     ) {
     }
+
+    public record StreamOptions(
+            // 마지막 조각에 토큰 사용량 포함 여부
+            @JsonProperty("include_usage")
+            Boolean includeUsage
+    ) {
+    }
 }
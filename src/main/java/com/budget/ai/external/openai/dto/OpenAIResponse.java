@@ -1,5 +1,6 @@
 package com.budget.ai.external.openai.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -9,7 +10,10 @@ import java.util.List;
  */
 @Schema(description = "OpenAI API 데이터 응답 DTO")
 public record OpenAIResponse(
-        List<Choice> choices
+        List<Choice> choices,
+
+        // 토큰 사용량
+        Usage usage
 ) {
     public record Choice(
             Message message
@@ -22,4 +26,16 @@ public record OpenAIResponse(
     ) {
 
     }
+
+    public record Usage(
+            @JsonProperty("prompt_tokens")
+            Long promptTokens,
+
+            @JsonProperty("completion_tokens")
+            Long completionTokens,
+
+            @JsonProperty("total_tokens")
+            Long totalTokens
+    ) {
+    }
 }
@@ -0,0 +1,27 @@
+package com.budget.ai.external.openai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * OpenAI API 스트리밍 응답 조각 DTO (SSE data 한 건)
+ */
+@Schema(description = "OpenAI API 스트리밍 응답 조각 DTO")
+public record OpenAIStreamChunk(
+        List<Choice> choices,
+
+        // 토큰 사용량 (stream_options.include_usage 요청 시 마지막 조각에만 포함)
+        OpenAIResponse.Usage usage
+) {
+    public record Choice(
+            Delta delta
+    ) {
+    }
+
+    public record Delta(
+            // 이번 조각에 추가된 응답 내용
+            String content
+    ) {
+    }
+}
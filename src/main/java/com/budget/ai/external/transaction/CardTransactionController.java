@@ -8,15 +8,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.time.OffsetDateTime;
 
 /**
  * 카드 거래 내역 API Controller
  * <p>
- *     가짜 카드 거래 내역 추가, 가짜 카드 거래 내역 조회 기능 포함
+ *     가짜 카드 거래 내역 추가, 가짜 카드 거래 내역 조회 (JSON / NDJSON 스트리밍) 기능 포함
  * </p>
  */
 @RestController
@@ -58,4 +60,22 @@ public class CardTransactionController {
 
         return ResponseEntity.ok(cardTransactionList);
     }
+
+    @Operation(summary = "카드 거래 내역 스트리밍 조회", description = "카드 거래 내역을 NDJSON으로 한 줄에 한 건씩 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "카드 거래 내역 스트리밍 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CardTransactionResponse.CardTransactionInfo> streamCardTransaction(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam String cardNumber) {
+
+        OffsetDateTime osdStartDate = OffsetDateTime.parse(startDate);
+        OffsetDateTime osdEndDate = OffsetDateTime.parse(endDate);
+
+        return cardTransactionService.streamCardTransactionList(osdStartDate, osdEndDate, cardNumber);
+    }
 }
@@ -1,5 +1,6 @@
 package com.budget.ai.external.transaction;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +26,20 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
             @Param("cardNumber") String cardNumber,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    @Query("""
+        SELECT ct
+        FROM CardTransaction ct
+        WHERE ct.cardNumber = :cardNumber
+        AND ct.transactionAt >= :startDate
+        AND ct.transactionAt < :endDate
+        AND ct.id > :lastId
+        ORDER BY ct.id ASC
+    """)
+    List<CardTransaction> findPageByCardNumberAndBetweenDate(
+            @Param("cardNumber") String cardNumber,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+}
@@ -6,9 +6,11 @@ import com.budget.ai.external.transaction.dto.request.AddCardTransactionRequest;
 import com.budget.ai.external.transaction.dto.response.CardTransactionResponse;
 import com.budget.ai.response.CustomException;
 import com.budget.ai.response.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -17,12 +19,21 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class CardTransactionService {
 
     private final CardTransactionRepository cardTransactionRepository;
     private final CardRepository cardRepository;
 
+    /** 스트리밍 조회 시 DB에서 한 번에 읽는 거래 수 */
+    private final int streamPageSize;
+
+    public CardTransactionService(CardTransactionRepository cardTransactionRepository, CardRepository cardRepository,
+                                  @Value("${external.transaction.stream-page-size:500}") int streamPageSize) {
+        this.cardTransactionRepository = cardTransactionRepository;
+        this.cardRepository = cardRepository;
+        this.streamPageSize = streamPageSize;
+    }
+
     /**
      * 카드 거래 내역 추가
      * @param request 카드 거래 내역 추가 요청 DTO
@@ -84,4 +95,43 @@ public class CardTransactionService {
 
         return new CardTransactionResponse(cardTransactionInfoList);
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 기간 카드 거래 내역 스트리밍 조회
+     * <p>
+     *     거래 ID 기준 키셋 페이지로 나눠 읽고, 구독자가 요청할 때만 다음 페이지를 읽는다.
+     *     전체 목록을 한 번에 메모리에 올리지 않는다.
+     * </p>
+     * @param startDate  조회 시작 날짜
+     * @param endDate    조회 종료 날짜
+     * @param cardNumber 카드 번호
+     * @return 카드 거래 내역 스트림
+     */
+    public Flux<CardTransactionResponse.CardTransactionInfo> streamCardTransactionList(OffsetDateTime startDate, OffsetDateTime endDate,
+                                                                                       String cardNumber) {
+        LocalDateTime convStartDate = startDate
+                .withOffsetSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
+
+        LocalDateTime convEndDate = endDate
+                .withOffsetSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
+
+        PageRequest pageRequest = PageRequest.ofSize(streamPageSize);
+
+        return Flux.<List<CardTransaction>, Long>generate(() -> 0L, (lastId, sink) -> {
+                    List<CardTransaction> page = cardTransactionRepository.findPageByCardNumberAndBetweenDate(
+                            cardNumber, convStartDate, convEndDate, lastId, pageRequest);
+
+                    if (page.isEmpty()) {
+                        sink.complete();
+                        return lastId;
+                    }
+
+                    sink.next(page);
+                    return page.get(page.size() - 1).getId();
+                })
+                .concatMapIterable(page -> page)
+                .map(CardTransactionResponse.CardTransactionInfo::from);
+    }
+}
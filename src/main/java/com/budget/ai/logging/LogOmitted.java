@@ -0,0 +1,17 @@
+package com.budget.ai.logging;
+
+/**
+ * 작업 로그에 값 대신 이름만 기록하는 인자 표시
+ * <p>
+ *     콜백처럼 직렬화할 필드가 없거나 직렬화하면 안 되는 객체가 구현한다.
+ * </p>
+ */
+public interface LogOmitted {
+
+    /**
+     * 로그에 기록할 이름
+     */
+    default String logName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -29,6 +29,9 @@ public class MaskingUtil {
                     "********",
                     "********"
             );
+        } else if (arg instanceof LogOmitted omitted) {
+            // 콜백 객체 등은 직렬화할 필드가 없으므로 이름만 기록
+            return omitted.logName();
         }
 
         return arg;
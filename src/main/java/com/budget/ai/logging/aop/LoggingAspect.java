@@ -5,6 +5,7 @@ import com.budget.ai.logging.MaskingUtil;
 import com.budget.ai.logging.aop.dto.AuditLogDto;
 import com.budget.ai.logging.aop.dto.OperationLogDto;
 import com.budget.ai.response.CustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,8 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Parameter;
 
@@ -99,6 +102,13 @@ public class LoggingAspect {
         return result;
     }
 
+    /**
+     * 작업 로그 기록
+     * <p>
+     *     Mono·Flux 를 반환하는 메서드는 반환 시점이 아니라 완료·오류 시점에 기록해,
+     *     비동기로 실행되는 본 작업의 소요 시간과 실패가 로그에 남도록 한다.
+     * </p>
+     */
     @Around("@annotation(operationLog)")
     public Object saveOperationLog(ProceedingJoinPoint joinPoint, OperationLog operationLog) throws Throwable {
         String eventName = operationLog.eventName();
@@ -118,38 +128,62 @@ public class LoggingAspect {
         try {
             result = joinPoint.proceed();
         } catch (Exception e) {
-            String message = getExceptionMessage(e);
-
-            OperationLogDto failureLog = OperationLogDto.failureLog(
+            writeOperationFailureLog(OperationLogDto.failureLog(
                     eventName, traceId, userId, className,
-                    methodName, maskingArgs, message
-            );
-
-            LogMdcUtil.setMdcField(failureLog);
-
-            String jsonData = objectMapper.writeValueAsString(failureLog);
-            log.error(jsonData, e);
-
-            LogMdcUtil.clearMdcField();
+                    methodName, maskingArgs, getExceptionMessage(e)
+            ), e);
 
             throw e;
         }
 
-        long duration = System.currentTimeMillis() - start;
+        if (result instanceof Mono<?> mono) {
+            return mono
+                    .doOnSuccess(value -> writeOperationSuccessLog(OperationLogDto.successLog(
+                            eventName, traceId, userId, System.currentTimeMillis() - start,
+                            className, methodName, maskingArgs)))
+                    .doOnError(e -> writeOperationFailureLog(OperationLogDto.failureLog(
+                            eventName, traceId, userId, className,
+                            methodName, maskingArgs, getExceptionMessage(e)), e));
+        }
 
-        OperationLogDto successLog = OperationLogDto.successLog(
-                eventName, traceId, userId, duration,
-                className, methodName, maskingArgs
-        );
+        if (result instanceof Flux<?> flux) {
+            return flux
+                    .doOnComplete(() -> writeOperationSuccessLog(OperationLogDto.successLog(
+                            eventName, traceId, userId, System.currentTimeMillis() - start,
+                            className, methodName, maskingArgs)))
+                    .doOnError(e -> writeOperationFailureLog(OperationLogDto.failureLog(
+                            eventName, traceId, userId, className,
+                            methodName, maskingArgs, getExceptionMessage(e)), e));
+        }
 
-        LogMdcUtil.setMdcField(successLog);
+        writeOperationSuccessLog(OperationLogDto.successLog(
+                eventName, traceId, userId, System.currentTimeMillis() - start,
+                className, methodName, maskingArgs
+        ));
 
-        String successJsonLog = objectMapper.writeValueAsString(successLog);
-        log.info(successJsonLog);
+        return result;
+    }
 
-        LogMdcUtil.clearMdcField();
+    private void writeOperationSuccessLog(OperationLogDto successLog) {
+        try {
+            LogMdcUtil.setMdcField(successLog);
+            log.info(objectMapper.writeValueAsString(successLog));
+        } catch (JsonProcessingException e) {
+            log.warn("작업 로그 변환 실패: {}", e.getMessage());
+        } finally {
+            LogMdcUtil.clearMdcField();
+        }
+    }
 
-        return result;
+    private void writeOperationFailureLog(OperationLogDto failureLog, Throwable throwable) {
+        try {
+            LogMdcUtil.setMdcField(failureLog);
+            log.error(objectMapper.writeValueAsString(failureLog), throwable);
+        } catch (JsonProcessingException e) {
+            log.warn("작업 로그 변환 실패: {}", e.getMessage());
+        } finally {
+            LogMdcUtil.clearMdcField();
+        }
     }
 
     private String getTraceId() {
@@ -160,7 +194,7 @@ public class LoggingAspect {
         return MDC.get(USER_ID_KEY);
     }
 
-    private String getExceptionMessage(Exception e) {
+    private String getExceptionMessage(Throwable e) {
         if (e instanceof CustomException ce) {
             return "ErrorCode: " + ce.getErrorCode().getCode() + ", Message: " + ce.getErrorCode().getMessage();
         }
@@ -30,6 +30,13 @@ public enum ErrorCode {
     CARD_ALREADY_EXISTS("CARD_ALREADY_EXISTS", "이미 등록된 카드입니다.", HttpStatus.CONFLICT),
     CARD_NOT_FOUND("CARD_NOT_FOUND", "등록되지 않은 카드입니다.", HttpStatus.NOT_FOUND),
 
+    // 카테고리
+    CATEGORY_NOT_FOUND("CATEGORY_NOT_FOUND", "존재하지 않는 카테고리입니다.", HttpStatus.NOT_FOUND),
+    INVALID_MERCHANT_KEY("INVALID_MERCHANT_KEY", "가맹점 키를 만들 수 없는 가맹점 이름입니다.", HttpStatus.BAD_REQUEST),
+
+    // 관리자
+    INVALID_ADMIN_KEY("INVALID_ADMIN_KEY", "관리자 권한이 없습니다.", HttpStatus.FORBIDDEN),
+
     // 카드 거래내역
     CARD_TRANSACTION_ALREADY_EXISTS("CARD_TRANSACTION_ALREADY_EXISTS", "이미 존재하는 거래번호입니다.", HttpStatus.CONFLICT),
 
@@ -39,6 +46,7 @@ public enum ErrorCode {
     API_CALL_TIMEOUT("API_CALL_TIMEOUT", "API 호출 중 응답 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
     API_CALL_WRONG_ANSWER("API_CALL_WRONG_ANSWER", "API 호출 중 올바르지 않은 응답입니다.", HttpStatus.BAD_GATEWAY),
     API_RATE_LIMIT_EXCEEDED("API_RATE_LIMIT_EXCEEDED", "API 호출 중 오류가 발생하였습니다.", HttpStatus.BAD_GATEWAY),
+    API_CALL_UNAVAILABLE("API_CALL_UNAVAILABLE", "외부 API를 일시적으로 사용할 수 없습니다.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // JSON 변환 오류
     CONVERT_JSON_PARSING("CONVERT_JSON_PARSING", "JSON 파싱 중 오류가 발생하였습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -46,6 +54,11 @@ public enum ErrorCode {
     // 리포트
     REPORT_NOT_FOUND("REPORT_NOT_FOUND", "등록되지 않은 리포트입니다.", HttpStatus.NOT_FOUND),
 
+    // 거래내역 동기화 작업
+    SYNC_JOB_NOT_FOUND("SYNC_JOB_NOT_FOUND", "존재하지 않는 동기화 작업입니다.", HttpStatus.NOT_FOUND),
+    SYNC_JOB_REJECTED("SYNC_JOB_REJECTED", "동기화 작업이 많아 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    SYNC_IN_PROGRESS("SYNC_IN_PROGRESS", "이미 진행 중인 동기화가 끝나지 않았습니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+
     // 배치
     BATCH_RUN_ERROR("BATCH_RUN_ERROR", "배치 실행 중 오류가 발생하였습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     ;
@@ -0,0 +1,33 @@
+package com.budget.ai.transaction;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드별 증분 동기화 커서 Entity
+ * <p>
+ *     동기화 트랜잭션이 커밋될 때만 함께 전진한다.
+ * </p>
+ */
+@Entity
+@Table(name = "card_sync_cursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardSyncCursor {
+
+    /** 카드 고유 ID */
+    @Id
+    private Long cardId;
+
+    /** 마지막으로 저장한 거래 시각 (UTC) */
+    @Column(nullable = false)
+    private LocalDateTime lastTransactionAt;
+
+    /** 마지막으로 저장한 카드사 거래 고유 ID */
+    @Column(nullable = false)
+    private String lastMerchantId;
+}
@@ -0,0 +1,33 @@
+package com.budget.ai.transaction;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CardSyncCursorRepository extends JpaRepository<CardSyncCursor, Long> {
+
+    List<CardSyncCursor> findAllByCardIdIn(Collection<Long> cardIdList);
+
+    /**
+     * 커서 전진 (뒤로 가지 않음)
+     * <p>
+     *     거래 ID를 먼저 갱신해야 기존 거래 시각과 비교할 수 있다.
+     * </p>
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO card_sync_cursors (card_id, last_transaction_at, last_merchant_id)
+        VALUES (:cardId, :lastTransactionAt, :lastMerchantId)
+        ON DUPLICATE KEY UPDATE
+            last_merchant_id = IF(VALUES(last_transaction_at) >= last_transaction_at, VALUES(last_merchant_id), last_merchant_id),
+            last_transaction_at = GREATEST(last_transaction_at, VALUES(last_transaction_at))
+    """, nativeQuery = true)
+    int advance(@Param("cardId") Long cardId,
+                @Param("lastTransactionAt") LocalDateTime lastTransactionAt,
+                @Param("lastMerchantId") String lastMerchantId);
+}
@@ -0,0 +1,129 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.card.CardCompanyType;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.transaction.dto.response.ExternalTransactionResponse;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카드 거래내역 API Client
+ * <p>
+ *     /outer/transaction/stream 을 NDJSON으로 요청해 응답 전체를 한 번에 디코딩하지 않고 거래 단위로 흘려보낸다.
+ *     구독자가 요청한 만큼만 읽으므로 (backpressure) 메모리 사용량은 조회 기간이 아니라 처리 묶음 크기에 비례한다.
+ *     카드사별 초당 호출 수는 RateLimiter로 제한하며, 허용량을 넘으면 스레드를 막지 않고 다음 허용 시점까지 구독을 미룬다.
+ * </p>
+ */
+@Component
+public class CardTransactionClient {
+
+    private final WebClient webClient;
+    private final Map<CardCompanyType, RateLimiter> rateLimiterMap = new EnumMap<>(CardCompanyType.class);
+
+    public CardTransactionClient(@Qualifier("serviceWebClient") WebClient webClient,
+                                 @Value("${transaction.sync.card-company.limit-per-second:10}") int limitPerSecond,
+                                 @Value("${transaction.sync.card-company.wait-timeout-seconds:30}") long waitTimeoutSeconds) {
+        this.webClient = webClient;
+
+        RateLimiterConfig config = RateLimiterConfig.custom()
+                .limitForPeriod(limitPerSecond)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(waitTimeoutSeconds))
+                .build();
+
+        for (CardCompanyType cardCompanyType : CardCompanyType.values()) {
+            rateLimiterMap.put(cardCompanyType, RateLimiter.of("card-" + cardCompanyType.name(), config));
+        }
+    }
+
+    /**
+     * 카드 거래내역 스트리밍 조회
+     * <p>
+     *     timeout은 거래 사이 응답 간격에 적용된다. 연결 오류와 timeout은 재시도하고, 재시도를 다 쓰면 timeout은 API_CALL_TIMEOUT으로 바꾼다.
+     *     재시도는 첫 거래를 받기 전까지만 한다. 재시도하면 스트림을 처음부터 다시 받으므로, 이미 흘려보낸 거래가 다시 들어와
+     *     건너뛴 건수가 부풀지 않도록 중간에 끊긴 스트림은 재시도하지 않고 실패로 끝낸다.
+     *     재시도도 새 호출이므로 카드사 호출 허용량을 다시 차감한다.
+     * </p>
+     * @param cardCompanyType 카드사
+     * @param cardNumber      카드 번호
+     * @param startDate       조회 시작 시각
+     * @param endDate         조회 종료 시각
+     * @return 카드 거래 스트림
+     */
+    public Flux<ExternalTransactionResponse.TransactionInfo> streamTransactions(CardCompanyType cardCompanyType, String cardNumber,
+                                                                                OffsetDateTime startDate, OffsetDateTime endDate) {
+        RateLimiter rateLimiter = rateLimiterMap.get(cardCompanyType);
+
+        return Flux.defer(() -> {
+            // 구독마다 따로 두어 같은 Flux를 다시 구독해도 재시도 판단이 섞이지 않게 함
+            AtomicBoolean emitted = new AtomicBoolean();
+
+            return Flux.defer(() -> throttle(rateLimiter, request(cardNumber, startDate, endDate)))
+                    .doOnNext(transactionInfo -> emitted.set(true))
+                    .retryWhen(Retry.fixedDelay(3, Duration.ofMillis(500))
+                            .filter(throwable -> !emitted.get()
+                                    && (throwable instanceof IOException || throwable instanceof TimeoutException))
+                            // 재시도를 다 쓰면 마지막 원인 예외를 그대로 전달
+                            .onRetryExhaustedThrow((retrySpec, signal) -> signal.failure()))
+                    .onErrorMap(TimeoutException.class, ex -> new CustomException(ErrorCode.API_CALL_TIMEOUT));
+        });
+    }
+
+    private Flux<ExternalTransactionResponse.TransactionInfo> request(String cardNumber, OffsetDateTime startDate,
+                                                                      OffsetDateTime endDate) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/outer/transaction/stream")
+                        .queryParam("startDate", startDate.toString())
+                        .queryParam("endDate", endDate.toString())
+                        .queryParam("cardNumber", cardNumber)
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, resp ->
+                        Mono.error(new CustomException(ErrorCode.API_CALL_CLIENT_ERROR)))
+                .onStatus(HttpStatusCode::is5xxServerError, resp ->
+                        Mono.error(new CustomException(ErrorCode.API_CALL_SERVER_ERROR)))
+                .bodyToFlux(ExternalTransactionResponse.TransactionInfo.class)
+                .timeout(Duration.ofSeconds(3));
+    }
+
+    /**
+     * 카드사 호출 허용량 확보 후 요청 구독
+     * <p>
+     *     허용량을 미리 예약하고 남은 대기 시간만큼 지연 구독한다. 대기 시간이 제한을 넘으면 즉시 실패한다.
+     * </p>
+     */
+    private Flux<ExternalTransactionResponse.TransactionInfo> throttle(RateLimiter rateLimiter,
+                                                                       Flux<ExternalTransactionResponse.TransactionInfo> request) {
+        long waitNanos = rateLimiter.reservePermission();
+
+        if (waitNanos < 0) {
+            return Flux.error(new CustomException(ErrorCode.API_RATE_LIMIT_EXCEEDED));
+        }
+
+        if (waitNanos == 0) {
+            return request;
+        }
+
+        return Mono.delay(Duration.ofNanos(waitNanos)).thenMany(request);
+    }
+}
@@ -0,0 +1,23 @@
+package com.budget.ai.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래 카테고리 분류 상태
+ * <p>
+ *     동기화 시 분류되지 않은 가맹점 거래는 임시 카테고리(기타)와 함께 분류 대기로 저장되고,
+ *     백그라운드 분류가 끝나면 분류 완료로 바뀐다. 백그라운드 분류가 실패하거나 OpenAI 응답에서 빠진 가맹점은
+ *     임시 카테고리 그대로 분류 실패로 바뀌어, 더 이상 대기하지 않고 분류기 학습에도 쓰이지 않는다.
+ *     (가맹점 일괄 재분류로 분류 완료로 바꿀 수 있음)
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum CategorizationStatus {
+    COMPLETED("분류 완료"),
+    PENDING("분류 대기"),
+    FALLBACK("분류 실패");
+
+    private final String displayName;
+}
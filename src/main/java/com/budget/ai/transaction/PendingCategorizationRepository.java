@@ -0,0 +1,99 @@
+package com.budget.ai.transaction;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 분류 대기 거래 조회·갱신 Repository
+ * <p>
+ *     분류는 가맹점 이름 단위로 하므로, 대기 중인 가맹점 이름을 모아 조회하고 같은 카테고리의 가맹점끼리 한 번의 UPDATE로 갱신한다.
+ *     idx_txn_categorization_status (categorization_status, merchant_name) 를 사용한다.
+ * </p>
+ */
+@Repository
+public class PendingCategorizationRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PendingCategorizationRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 분류 대기 가맹점 이름 조회
+     * @param limit 최대 조회 건수
+     * @return 가맹점 이름 List (중복 없음)
+     */
+    public List<String> findPendingMerchantNames(int limit) {
+        return jdbcTemplate.queryForList("""
+                        SELECT DISTINCT merchant_name
+                        FROM transactions
+                        WHERE categorization_status = 'PENDING'
+                        LIMIT :limit
+                        """,
+                new MapSqlParameterSource("limit", limit),
+                String.class);
+    }
+
+    /**
+     * 가맹점의 분류 대기 거래를 가진 회원 조회 (통계 캐시 무효화 대상)
+     * <p>
+     *     갱신과 같은 트랜잭션에서 호출한다. 조회한 행을 잠가 갱신 전에 새로 들어온 대기 거래의 회원이 누락되지 않게 한다.
+     * </p>
+     * @param merchantNames 가맹점 이름 목록
+     * @return 회원 ID List
+     */
+    public List<Long> findPendingUserIds(Collection<String> merchantNames) {
+        return jdbcTemplate.queryForList("""
+                        SELECT DISTINCT user_id
+                        FROM transactions
+                        WHERE categorization_status = 'PENDING'
+                          AND merchant_name IN (:merchantNames)
+                        FOR UPDATE
+                        """,
+                new MapSqlParameterSource("merchantNames", merchantNames),
+                Long.class);
+    }
+
+    /**
+     * 가맹점의 분류 대기 거래에 카테고리 지정 후 분류 완료 처리
+     * @param categoryId    지정할 카테고리 식별자
+     * @param merchantNames 같은 카테고리로 분류된 가맹점 이름 목록
+     * @return 갱신된 거래 수
+     */
+    public int complete(Long categoryId, Collection<String> merchantNames) {
+        return updatePending(categoryId, merchantNames, CategorizationStatus.COMPLETED);
+    }
+
+    /**
+     * 분류하지 못한 가맹점의 분류 대기 거래를 임시 카테고리로 확정 후 분류 실패 처리 (분류기 학습 제외)
+     * @param fallbackCategoryId 임시 카테고리 식별자
+     * @param merchantNames      분류하지 못한 가맹점 이름 목록
+     * @return 갱신된 거래 수
+     */
+    public int fallback(Long fallbackCategoryId, Collection<String> merchantNames) {
+        return updatePending(fallbackCategoryId, merchantNames, CategorizationStatus.FALLBACK);
+    }
+
+    private int updatePending(Long categoryId, Collection<String> merchantNames, CategorizationStatus categorizationStatus) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("categoryId", categoryId)
+                .addValue("categorizationStatus", categorizationStatus.name())
+                .addValue("merchantNames", merchantNames)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        return jdbcTemplate.update("""
+                        UPDATE transactions
+                        SET category_id = :categoryId, categorization_status = :categorizationStatus, updated_at = :now
+                        WHERE categorization_status = 'PENDING'
+                          AND merchant_name IN (:merchantNames)
+                        """,
+                params);
+    }
+}
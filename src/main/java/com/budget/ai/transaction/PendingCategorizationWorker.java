@@ -0,0 +1,198 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.category.CategoryRegistry;
+import com.budget.ai.category.MerchantCategoryResolver;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 분류 대기 거래 백그라운드 분류
+ * <p>
+ *     동기화가 임시 카테고리(기타)로 저장한 분류 대기 거래를 가맹점 이름 batchSize 개씩 모아
+ *     학습된 분류 결과 → 로컬 분류기 → OpenAI 순서로 분류하고, 카테고리별 UPDATE 한 번으로 갱신한 뒤
+ *     해당 회원의 통계 캐시 세대를 올린다. OpenAI 호출 중에는 커넥션을 점유하지 않는다.
+ * </p>
+ * <p>
+ *     여러 서버가 같은 가맹점을 중복 분류하지 않도록 Redis lease를 잡은 서버만 실행한다. 한 번의 실행이 lease 유지 시간보다
+ *     길어질 수 있으므로 묶음마다 lease를 연장하고, 연장하지 못하면 (만료 후 다른 서버가 잡음) 남은 묶음은 처리하지 않는다.
+ *     서킷이 열렸거나 요청 제한·시간 초과처럼 일시적인 오류면 이번 실행을 멈추고 다음 주기에 다시 시도한다.
+ *     그 밖의 오류(잘못된 응답, 4xx 등)는 다시 시도해도 같은 묶음에서 계속 실패해 뒤의 대기 거래까지 막으므로,
+ *     해당 묶음의 미분류 가맹점을 임시 카테고리 그대로 분류 실패 처리하고 기록을 남긴다.
+ *     OpenAI 응답에서 빠진 가맹점도 계속 대기하지 않도록 분류 실패 처리한다. 분류 실패 거래는 분류기 학습에 쓰지 않는다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PendingCategorizationWorker {
+
+    private static final String LOCK_KEY = "pendingCategorization:lock";
+    private static final String FALLBACK_CATEGORY_CODE = "ETC";
+
+    /** 이번 실행을 멈추고 다음 주기에 다시 시도하는 일시적 오류 */
+    private static final Set<ErrorCode> TRANSIENT_ERROR_CODES = Set.of(
+            ErrorCode.API_CALL_UNAVAILABLE, ErrorCode.API_RATE_LIMIT_EXCEEDED, ErrorCode.API_CALL_TIMEOUT);
+
+    private final PendingCategorizationRepository pendingCategorizationRepository;
+    private final MerchantCategoryResolver merchantCategoryResolver;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionCacheGeneration transactionCacheGeneration;
+    private final RedisLease redisLease;
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /** 1회 분류 가맹점 수 (OpenAI 일괄 분류 단위) */
+    private final int batchSize;
+
+    /** 실행 1회당 최대 묶음 수 */
+    private final int maxBatchesPerRun;
+
+    /** 실행 lease 유지 시간 (묶음마다 다시 연장, 묶음 1개 처리 시간보다 길어야 함) */
+    private final Duration lockTtl;
+
+    public PendingCategorizationWorker(PendingCategorizationRepository pendingCategorizationRepository,
+                                       MerchantCategoryResolver merchantCategoryResolver,
+                                       CategoryRegistry categoryRegistry,
+                                       TransactionCacheGeneration transactionCacheGeneration,
+                                       RedisLease redisLease,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${transaction.categorization.batch-size:50}") int batchSize,
+                                       @Value("${transaction.categorization.max-batches-per-run:20}") int maxBatchesPerRun,
+                                       @Value("${transaction.categorization.lock-seconds:300}") long lockSeconds) {
+        this.pendingCategorizationRepository = pendingCategorizationRepository;
+        this.merchantCategoryResolver = merchantCategoryResolver;
+        this.categoryRegistry = categoryRegistry;
+        this.transactionCacheGeneration = transactionCacheGeneration;
+        this.redisLease = redisLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lockTtl = Duration.ofSeconds(lockSeconds);
+    }
+
+    /**
+     * 분류 대기 거래 분류
+     * @return 분류 완료·분류 실패 처리한 거래 수 (다른 서버가 실행 중이면 0)
+     */
+    @Scheduled(fixedDelayString = "${transaction.categorization.drain-interval-ms:10000}",
+            initialDelayString = "${transaction.categorization.drain-interval-ms:10000}")
+    public int drain() {
+        String token = UUID.randomUUID().toString();
+
+        if (!redisLease.acquire(LOCK_KEY, token, lockTtl)) {
+            return 0;
+        }
+
+        int completedCount = 0;
+
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                // 첫 묶음은 방금 획득한 lease로 처리, 이후 묶음은 연장에 성공해야 처리
+                if (i > 0 && !redisLease.extend(LOCK_KEY, token, lockTtl)) {
+                    log.warn("분류 대기 거래 분류 lease 만료로 중단, 분류 완료 {}건", completedCount);
+                    break;
+                }
+
+                List<String> merchantNames = readOnlyTransactionTemplate.execute(status ->
+                        pendingCategorizationRepository.findPendingMerchantNames(batchSize));
+
+                if (merchantNames == null || merchantNames.isEmpty()) {
+                    break;
+                }
+
+                completedCount += drainBatch(merchantNames);
+            }
+        } catch (CustomException exception) {
+            // 일시적 오류: 분류 대기 상태는 유지되므로 다음 주기에 다시 시도
+            log.warn("분류 대기 거래 분류 중단 (ErrorCode: {}), 분류 완료 {}건",
+                    exception.getErrorCode().getCode(), completedCount);
+        } finally {
+            redisLease.release(LOCK_KEY, token);
+        }
+
+        return completedCount;
+    }
+
+    private int drainBatch(List<String> merchantNames) {
+        // 1. 학습된 분류 결과 → 로컬 분류기 → OpenAI 순서로 분류 (커넥션 점유 없음)
+        MerchantCategoryResolver.LocalResolution resolution = merchantCategoryResolver.resolveLocally(merchantNames);
+        Map<String, Long> aiCategoryIds = classifyByAI(resolution);
+
+        Long fallbackCategoryId = categoryRegistry.findByCode(FALLBACK_CATEGORY_CODE)
+                .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND))
+                .id();
+
+        // 2. 같은 카테고리 가맹점끼리 묶음 (분류하지 못한 가맹점은 임시 카테고리로 분류 실패 처리)
+        Map<Long, List<String>> merchantNamesByCategory = new HashMap<>();
+        List<String> fallbackMerchantNames = new ArrayList<>();
+        for (String merchantName : merchantNames) {
+            Long categoryId = resolution.categoryIds().getOrDefault(merchantName, aiCategoryIds.get(merchantName));
+
+            if (categoryId == null) {
+                fallbackMerchantNames.add(merchantName);
+                continue;
+            }
+
+            merchantNamesByCategory.computeIfAbsent(categoryId, key -> new ArrayList<>()).add(merchantName);
+        }
+
+        // 3. 카테고리별 UPDATE 후 영향받은 회원의 통계 캐시 세대 증가 (커밋 후)
+        Integer completedCount = transactionTemplate.execute(status -> {
+            List<Long> userIds = pendingCategorizationRepository.findPendingUserIds(merchantNames);
+
+            int updatedCount = 0;
+            for (Map.Entry<Long, List<String>> entry : merchantNamesByCategory.entrySet()) {
+                updatedCount += pendingCategorizationRepository.complete(entry.getKey(), entry.getValue());
+            }
+
+            if (!fallbackMerchantNames.isEmpty()) {
+                updatedCount += pendingCategorizationRepository.fallback(fallbackCategoryId, fallbackMerchantNames);
+            }
+
+            userIds.forEach(transactionCacheGeneration::bump);
+
+            return updatedCount;
+        });
+
+        return completedCount != null ? completedCount : 0;
+    }
+
+    /**
+     * OpenAI 분류
+     * @return 가맹점 이름 → 카테고리 식별자 (일시적이지 않은 오류면 빈 Map, 임시 카테고리로 분류 실패 처리됨)
+     * @throws CustomException 일시적 오류 (이번 실행 중단)
+     */
+    private Map<String, Long> classifyByAI(MerchantCategoryResolver.LocalResolution resolution) {
+        try {
+            MerchantCategoryResolver.AIResolution aiResolution = merchantCategoryResolver.classifyByAI(
+                    resolution.unresolvedNames(), resolution.predictionByName());
+
+            if (aiResolution.provisional()) {
+                // 임시 카테고리로 분류 완료 처리하지 않고 분류 대기 유지
+                throw new CustomException(ErrorCode.API_CALL_UNAVAILABLE);
+            }
+
+            return aiResolution.categoryIds();
+        } catch (CustomException exception) {
+            if (TRANSIENT_ERROR_CODES.contains(exception.getErrorCode())) {
+                throw exception;
+            }
+
+            log.warn("분류 대기 가맹점 OpenAI 분류 실패 (ErrorCode: {}), 임시 카테고리로 분류 실패 처리: {}",
+                    exception.getErrorCode().getCode(), resolution.unresolvedNames());
+
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.transaction.dto.response.CategorySavingResponse;
+import com.budget.ai.transaction.dto.response.SumCategoryTransactionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 절약 추천 응답 캐시
+ * <p>
+ *     통계의 카테고리 식별자, amountResolution 단위로 반올림한 금액, ratioResolution 단위로 반올림한 비율로 지문을 만들어
+ *     회원·거래 데이터 세대와 함께 캐시 키로 쓴다. 지출 구성이 사실상 같으면 조회 기간이 달라도 이전 추천을 재사용하고,
+ *     거래 데이터가 바뀌면 세대가 올라가 이전 추천은 조회되지 않는다.
+ * </p>
+ * <p>
+ *     캐시 미스는 single-flight 로 OpenAI 호출을 한 번만 한다. 서버 안에서는 진행 중인 Mono 를 공유하고,
+ *     서버 간에는 Redis lease 를 잡은 서버만 호출하며 나머지는 캐시에 결과가 기록될 때까지 기다린다.
+ *     lease 가 결과 없이 사라지면 다시 lease 를 잡고, waitTimeout 이 지나면 직접 호출한다.
+ *     스트리밍도 같은 single-flight 를 거친다. 생성을 맡은 요청만 받는 대로 내보내고, 나머지는 기록된 추천을 한 번에 내보낸다.
+ *     Redis 를 사용할 수 없으면 캐시 없이 호출한다.
+ * </p>
+ * <p>
+ *     기록할 때마다 회원별 최근 추천도 latestTtl 동안 따로 보관해, OpenAI 를 사용할 수 없을 때 대체 응답으로 쓴다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecommendSavingCache {
+
+    private static final String CACHE_KEY_PREFIX = "recommendSaving:";
+    private static final String LEASE_KEY_PREFIX = "recommendSavingLease:";
+    private static final String LATEST_KEY_PREFIX = "recommendSavingLatest:";
+
+    private final RedisLease redisLease;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionCacheGeneration transactionCacheGeneration;
+
+    /** 서버 안에서 진행 중인 추천 (캐시 키 → 결과) */
+    private final ConcurrentHashMap<String, Mono<CategorySavingResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /** 금액 반올림 단위 (원) */
+    private final BigDecimal amountResolution;
+
+    /** 비율 반올림 단위 (%p) */
+    private final BigDecimal ratioResolution;
+
+    /** 추천 보관 시간 */
+    private final Duration ttl;
+
+    /** 회원별 최근 추천 보관 시간 (대체 응답용) */
+    private final Duration latestTtl;
+
+    /** lease 유지 시간 (OpenAI 응답 최대 대기 시간보다 길어야 함) */
+    private final Duration leaseTtl;
+
+    /** 다른 서버 결과 최대 대기 시간 */
+    private final Duration waitTimeout;
+
+    /** 다른 서버 결과 확인 간격 */
+    private final Duration pollInterval;
+
+    public RecommendSavingCache(RedisLease redisLease, RedisTemplate<String, Object> redisTemplate,
+                                TransactionCacheGeneration transactionCacheGeneration,
+                                @Value("${transaction.recommend.cache.amount-resolution:10000}") long amountResolution,
+                                @Value("${transaction.recommend.cache.ratio-resolution:5}") long ratioResolution,
+                                @Value("${transaction.recommend.cache.ttl-minutes:60}") long ttlMinutes,
+                                @Value("${transaction.recommend.cache.latest-ttl-hours:24}") long latestTtlHours,
+                                @Value("${transaction.recommend.cache.lease-seconds:90}") long leaseSeconds,
+                                @Value("${transaction.recommend.cache.wait-timeout-seconds:60}") long waitTimeoutSeconds,
+                                @Value("${transaction.recommend.cache.poll-interval-millis:200}") long pollIntervalMillis) {
+        this.redisLease = redisLease;
+        this.redisTemplate = redisTemplate;
+        this.transactionCacheGeneration = transactionCacheGeneration;
+        this.amountResolution = BigDecimal.valueOf(Math.max(1, amountResolution));
+        this.ratioResolution = BigDecimal.valueOf(Math.max(1, ratioResolution));
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.latestTtl = Duration.ofHours(latestTtlHours);
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+        this.pollInterval = Duration.ofMillis(pollIntervalMillis);
+    }
+
+    /**
+     * 캐시된 추천 조회, 없으면 single-flight 로 생성 후 기록
+     * @param userId    회원 ID
+     * @param statistic 카테고리별 거래 내역 통계
+     * @param loader    추천 생성 (OpenAI 호출)
+     * @return 카테고리별 절약 추천
+     */
+    public Mono<CategorySavingResponse> getOrLoad(Long userId, SumCategoryTransactionResponse statistic,
+                                                  Supplier<Mono<CategorySavingResponse>> loader) {
+        return cacheKey(userId, statistic)
+                .flatMap(cacheKey -> read(cacheKey)
+                        .switchIfEmpty(Mono.defer(() -> join(userId, cacheKey, loader))))
+                .switchIfEmpty(Mono.defer(loader::get));
+    }
+
+    /**
+     * 캐시된 추천 조회, 없으면 single-flight 로 스트리밍 생성 후 기록
+     * <p>
+     *     생성을 맡은 요청은 loader 가 내보내는 항목을 바로 내보낸다. 같은 캐시 키로 생성 중인 요청이 있으면
+     *     (일반 조회 포함) 생성이 끝날 때까지 기다렸다가 결과를 한 번에 내보낸다.
+     * </p>
+     * @param userId    회원 ID
+     * @param statistic 카테고리별 거래 내역 통계
+     * @param loader    추천 스트리밍 생성 (OpenAI 스트리밍 호출, 구독마다 새로 호출)
+     * @return 카테고리별 절약 방법
+     */
+    public Flux<CategorySavingResponse.SavingInfo> getOrStream(Long userId, SumCategoryTransactionResponse statistic,
+                                                               Supplier<Flux<CategorySavingResponse.SavingInfo>> loader) {
+        // 추천이 비어 있을 수 있으므로 캐시 적중 여부는 Flux 가 아닌 Mono 단계에서 판단
+        return cacheKey(userId, statistic)
+                .flatMap(cacheKey -> read(cacheKey)
+                        .map(this::replay)
+                        .switchIfEmpty(Mono.fromSupplier(() -> joinStream(userId, cacheKey, loader))))
+                .defaultIfEmpty(Flux.defer(loader::get))
+                .flatMapMany(Function.identity());
+    }
+
+    /**
+     * 회원의 최근 추천 조회 (거래 데이터 세대·지출 구성과 무관)
+     * @param userId 회원 ID
+     * @return 최근 추천, 없거나 Redis 를 사용할 수 없으면 empty
+     */
+    public Mono<CategorySavingResponse> findLatest(Long userId) {
+        return read(LATEST_KEY_PREFIX + userId);
+    }
+
+    /**
+     * 통계 지문
+     * <p>
+     *     카테고리 식별자 순으로 "식별자:금액 구간:비율 구간" 을 잇고 총액 구간을 더해 MD5 로 줄인다.
+     * </p>
+     * @param statistic 카테고리별 거래 내역 통계
+     * @return 지문 (16진수)
+     */
+    String fingerprint(SumCategoryTransactionResponse statistic) {
+        String categories = statistic.sumCategoryInfoList().stream()
+                .sorted(Comparator.comparing(SumCategoryTransactionResponse.SumCategoryInfo::categoryId))
+                .map(info -> info.categoryId() + ":" + bucket(info.sumAmount(), amountResolution)
+                        + ":" + bucket(info.ratio(), ratioResolution))
+                .collect(Collectors.joining(","));
+
+        String source = categories + "|" + bucket(statistic.totalSum(), amountResolution);
+
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private BigDecimal bucket(BigDecimal value, BigDecimal resolution) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+
+        return value.divide(resolution, 0, RoundingMode.HALF_UP);
+    }
+
+    private Mono<String> cacheKey(Long userId, SumCategoryTransactionResponse statistic) {
+        return blocking(() -> CACHE_KEY_PREFIX + userId + ":" + transactionCacheGeneration.current(userId) + ":" + fingerprint(statistic))
+                .onErrorResume(DataAccessException.class, ex -> {
+                    log.warn("절약 추천 캐시 사용 불가, 캐시 없이 호출: {}", ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 서버 안에서 진행 중인 추천에 합류, 없으면 새로 시작
+     */
+    private Mono<CategorySavingResponse> join(Long userId, String cacheKey, Supplier<Mono<CategorySavingResponse>> loader) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        Mono<CategorySavingResponse> flight = loadWithLease(userId, cacheKey, loader, deadline).cache();
+        Mono<CategorySavingResponse> running = inFlight.putIfAbsent(cacheKey, flight);
+
+        if (running != null) {
+            return running;
+        }
+
+        return flight.doFinally(signal -> inFlight.remove(cacheKey, flight));
+    }
+
+    /**
+     * 서버 안에서 진행 중인 추천에 합류 (스트리밍)
+     * <p>
+     *     진행 중인 추천이 없으면 이 요청이 생성을 맡고, 내보낸 항목을 모아 같은 서버의 다른 요청과 결과를 공유한다.
+     *     생성을 맡은 요청이 중간에 취소되면 기다리던 요청은 처음부터 다시 합류한다.
+     * </p>
+     */
+    private Flux<CategorySavingResponse.SavingInfo> joinStream(Long userId, String cacheKey,
+                                                               Supplier<Flux<CategorySavingResponse.SavingInfo>> loader) {
+        Sinks.One<CategorySavingResponse> result = Sinks.one();
+        Mono<CategorySavingResponse> flight = result.asMono();
+        Mono<CategorySavingResponse> running = inFlight.putIfAbsent(cacheKey, flight);
+
+        if (running != null) {
+            return running.map(this::replay)
+                    .switchIfEmpty(Mono.fromSupplier(() -> joinStream(userId, cacheKey, loader)))
+                    .flatMapMany(Function.identity());
+        }
+
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        List<CategorySavingResponse.SavingInfo> savingInfoList = new ArrayList<>();
+
+        return streamWithLease(userId, cacheKey, loader, deadline)
+                .doOnNext(savingInfoList::add)
+                .doOnComplete(() -> result.tryEmitValue(CategorySavingResponse.of(savingInfoList)))
+                .doOnError(result::tryEmitError)
+                .doOnCancel(result::tryEmitEmpty)
+                .doFinally(signal -> inFlight.remove(cacheKey, flight));
+    }
+
+    /**
+     * lease 를 잡으면 스트리밍 생성 후 기록, 못 잡으면 결과가 기록되거나 lease 가 사라질 때까지 대기
+     */
+    private Flux<CategorySavingResponse.SavingInfo> streamWithLease(Long userId, String cacheKey,
+                                                                    Supplier<Flux<CategorySavingResponse.SavingInfo>> loader,
+                                                                    long deadline) {
+        String leaseKey = LEASE_KEY_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+
+        return blocking(() -> redisLease.acquire(leaseKey, token, leaseTtl))
+                .onErrorResume(DataAccessException.class, ex -> Mono.just(Boolean.TRUE))
+                .flatMapMany(acquired -> {
+                    // 1. lease 획득: 받는 대로 내보내고, 끝나면 다른 요청이 볼 수 있도록 캐시에 기록
+                    if (acquired) {
+                        List<CategorySavingResponse.SavingInfo> savingInfoList = new ArrayList<>();
+
+                        return Flux.defer(loader::get)
+                                .doOnNext(savingInfoList::add)
+                                .concatWith(Mono.defer(() -> write(userId, cacheKey, CategorySavingResponse.of(savingInfoList)))
+                                        .then(Mono.empty()))
+                                .doFinally(signal -> release(leaseKey, token));
+                    }
+
+                    // 2. 대기 시간 초과: 직접 생성 (캐시 기록은 lease 를 가진 서버가 함)
+                    if (System.nanoTime() > deadline) {
+                        return Flux.defer(loader::get);
+                    }
+
+                    // 3. 다른 서버가 생성 중: 잠시 후 캐시 확인, 없으면 lease 부터 다시 시도
+                    return Mono.delay(pollInterval)
+                            .then(read(cacheKey))
+                            .map(this::replay)
+                            .switchIfEmpty(Mono.fromSupplier(() -> streamWithLease(userId, cacheKey, loader, deadline)))
+                            .flatMapMany(Function.identity());
+                });
+    }
+
+    private Flux<CategorySavingResponse.SavingInfo> replay(CategorySavingResponse response) {
+        return Flux.fromIterable(response.savingInfoList());
+    }
+
+    /**
+     * lease 를 잡으면 생성 후 기록, 못 잡으면 결과가 기록되거나 lease 가 사라질 때까지 대기
+     */
+    private Mono<CategorySavingResponse> loadWithLease(Long userId, String cacheKey,
+                                                       Supplier<Mono<CategorySavingResponse>> loader, long deadline) {
+        String leaseKey = LEASE_KEY_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+
+        return blocking(() -> redisLease.acquire(leaseKey, token, leaseTtl))
+                .onErrorResume(DataAccessException.class, ex -> Mono.just(Boolean.TRUE))
+                .flatMap(acquired -> {
+                    // 1. lease 획득: 직접 생성 후 다른 서버가 볼 수 있도록 캐시에 기록
+                    if (acquired) {
+                        return Mono.defer(loader::get)
+                                .flatMap(response -> write(userId, cacheKey, response))
+                                .doFinally(signal -> release(leaseKey, token));
+                    }
+
+                    // 2. 대기 시간 초과: 직접 생성 (캐시 기록은 lease 를 가진 서버가 함)
+                    if (System.nanoTime() > deadline) {
+                        return Mono.defer(loader::get);
+                    }
+
+                    // 3. 다른 서버가 생성 중: 잠시 후 캐시 확인, 없으면 lease 부터 다시 시도
+                    return Mono.delay(pollInterval)
+                            .then(read(cacheKey))
+                            .switchIfEmpty(Mono.defer(() -> loadWithLease(userId, cacheKey, loader, deadline)));
+                });
+    }
+
+    private Mono<CategorySavingResponse> read(String cacheKey) {
+        return blocking(() -> redisTemplate.opsForValue().get(cacheKey))
+                .onErrorResume(DataAccessException.class, ex -> Mono.empty())
+                .ofType(CategorySavingResponse.class);
+    }
+
+    private Mono<CategorySavingResponse> write(Long userId, String cacheKey, CategorySavingResponse response) {
+        return blocking(() -> {
+                    redisTemplate.opsForValue().set(cacheKey, response, ttl);
+                    redisTemplate.opsForValue().set(LATEST_KEY_PREFIX + userId, response, latestTtl);
+                    return response;
+                })
+                .onErrorResume(DataAccessException.class, ex -> Mono.just(response));
+    }
+
+    private void release(String leaseKey, String token) {
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                redisLease.release(leaseKey, token);
+            } catch (DataAccessException ex) {
+                // lease 는 TTL로 만료
+                log.warn("절약 추천 lease 해제 실패: {}", ex.getMessage());
+            }
+        });
+    }
+
+    private <T> Mono<T> blocking(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic());
+    }
+}
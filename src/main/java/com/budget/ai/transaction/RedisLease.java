@@ -0,0 +1,86 @@
+package com.budget.ai.transaction;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 서버 간 Redis lease
+ * <p>
+ *     키에 호출자가 만든 토큰을 SET NX PX 로 기록한 서버만 작업을 실행한다.
+ *     해제는 토큰이 내 것일 때만 하므로, 작업이 길어져 lease 가 만료된 뒤 다른 서버가 잡은 lease 를 지우지 않는다.
+ *     Redis 오류(DataAccessException)는 그대로 전달하며, 처리 방식은 호출하는 쪽이 정한다.
+ * </p>
+ */
+@Component
+public class RedisLease {
+
+    /** 토큰이 일치할 때만 삭제 */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    /** 토큰이 일치할 때만 유지 시간 연장 */
+    private static final DefaultRedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisLease(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * lease 획득
+     * @param key   lease 키
+     * @param token 획득한 서버를 구분하는 토큰
+     * @param ttl   lease 유지 시간
+     * @return 획득 여부 (다른 서버가 잡고 있으면 false)
+     */
+    public boolean acquire(String key, String token, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl));
+    }
+
+    /**
+     * 현재 lease 토큰
+     * @param key lease 키
+     * @return 토큰, lease 가 없으면 null
+     */
+    public String holder(String key) {
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+
+    /**
+     * lease 유지 시간 연장
+     * <p>
+     *     lease 유지 시간보다 오래 걸릴 수 있는 작업은 단계마다 연장해, 실행 중에 다른 서버가 lease 를 잡지 않게 한다.
+     * </p>
+     * @param key   lease 키
+     * @param token 획득 시 기록한 토큰
+     * @param ttl   지금부터 새로 적용할 유지 시간
+     * @return 연장 여부 (이미 만료됐거나 다른 서버의 lease 면 false)
+     */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long extended = stringRedisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+
+        return extended != null && extended > 0;
+    }
+
+    /**
+     * lease 해제
+     * @param key   lease 키
+     * @param token 획득 시 기록한 토큰
+     * @return 해제 여부 (이미 만료됐거나 다른 서버의 lease 면 false)
+     */
+    public boolean release(String key, String token) {
+        Long deleted = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+
+        return deleted != null && deleted > 0;
+    }
+}
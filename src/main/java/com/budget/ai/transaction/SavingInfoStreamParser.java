@@ -0,0 +1,130 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.transaction.dto.response.CategorySavingResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 절약 추천 응답 점진 파서
+ * <p>
+ *     OpenAI 응답 조각을 Jackson 논블로킹 파서에 이어 넣어, {"카테고리":"절약 방법", ...} 객체의
+ *     카테고리·절약 방법 쌍이 완성될 때마다 바로 반환한다. 조각 경계가 문자열 중간에 걸려도 된다.
+ *     최상위 객체 앞(마크다운 블록 등)과 뒤의 내용은 무시한다.
+ * </p>
+ * <p>
+ *     응답 스트림 하나에 하나씩 만들어 쓰며 스레드 안전하지 않다.
+ * </p>
+ */
+class SavingInfoStreamParser {
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    /** 최상위 객체 시작 여부 */
+    private boolean started;
+
+    /** 최상위 객체 종료 여부 */
+    private boolean finished;
+
+    /** 현재 객체 깊이 (최상위 객체 안이면 1) */
+    private int depth;
+
+    /** 값을 기다리는 카테고리 이름 */
+    private String categoryName;
+
+    SavingInfoStreamParser(JsonFactory jsonFactory) {
+        try {
+            this.parser = jsonFactory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.CONVERT_JSON_PARSING);
+        }
+
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 조각 추가
+     * @param fragment 응답 내용 조각
+     * @return 이번 조각으로 완성된 카테고리별 절약 방법 (없으면 빈 목록)
+     */
+    List<CategorySavingResponse.SavingInfo> feed(String fragment) {
+        if (finished || fragment.isEmpty()) {
+            return List.of();
+        }
+
+        String input = fragment;
+
+        // 최상위 객체 시작 전 내용은 버림
+        if (!started) {
+            int objectStart = input.indexOf('{');
+            if (objectStart < 0) {
+                return List.of();
+            }
+
+            input = input.substring(objectStart);
+            started = true;
+        }
+
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+
+            return readAvailable();
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.CONVERT_JSON_PARSING);
+        }
+    }
+
+    /**
+     * 응답 종료
+     * @throws CustomException 최상위 객체가 닫히지 않은 채 응답이 끝난 경우
+     */
+    void finish() {
+        feeder.endOfInput();
+
+        if (!finished) {
+            throw new CustomException(ErrorCode.CONVERT_JSON_PARSING);
+        }
+    }
+
+    private List<CategorySavingResponse.SavingInfo> readAvailable() throws IOException {
+        List<CategorySavingResponse.SavingInfo> savingInfoList = new ArrayList<>();
+
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> depth++;
+                case END_OBJECT, END_ARRAY -> {
+                    depth--;
+                    finished = depth == 0;
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        categoryName = parser.currentName();
+                    }
+                }
+                case VALUE_STRING -> {
+                    if (depth == 1 && categoryName != null) {
+                        savingInfoList.add(new CategorySavingResponse.SavingInfo(categoryName, parser.getText()));
+                        categoryName = null;
+                    }
+                }
+                default -> {
+                    // 최상위 객체의 문자열이 아닌 값은 무시
+                }
+            }
+        }
+
+        return savingInfoList;
+    }
+}
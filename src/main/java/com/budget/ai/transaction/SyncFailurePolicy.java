@@ -0,0 +1,19 @@
+package com.budget.ai.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래내역 동기화 중 카드별 조회 실패 처리 정책
+ * <p>
+ *     전체 실패, 실패한 카드 제외
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum SyncFailurePolicy {
+    FAIL_FAST("전체 동기화 실패"),
+    SKIP_CARD("실패한 카드 제외");
+
+    private final String displayName;
+}
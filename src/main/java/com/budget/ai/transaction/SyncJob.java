@@ -0,0 +1,64 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.transaction.dto.response.SyncJobResponse;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis에 저장되는 비동기 거래내역 동기화 작업 상태
+ * <p>
+ *     상태가 바뀔 때마다 새 객체로 교체해 저장한다.
+ * </p>
+ * @param jobId            작업 ID
+ * @param userId           작업을 요청한 회원 ID
+ * @param status           작업 상태
+ * @param cardProgressList 카드별 진행 상황
+ * @param insertedCount    저장된 거래 수
+ * @param skippedCount     건너뛴 거래 수
+ * @param classifiedCount  AI로 분류한 가맹점 수
+ * @param errorCode        실패 시 오류 코드
+ */
+public record SyncJob(String jobId, Long userId, SyncJobStatus status,
+                      List<SyncJobResponse.CardProgress> cardProgressList,
+                      int insertedCount, int skippedCount, int classifiedCount, String errorCode) {
+
+    public static SyncJob queued(String jobId, Long userId) {
+        return new SyncJob(jobId, userId, SyncJobStatus.QUEUED, new ArrayList<>(), 0, 0, 0, null);
+    }
+
+    public SyncJob started(List<Long> cardIdList) {
+        List<SyncJobResponse.CardProgress> progressList = new ArrayList<>(cardIdList.size());
+        cardIdList.forEach(cardId -> progressList.add(new SyncJobResponse.CardProgress(cardId, SyncJobStatus.RUNNING, 0, null)));
+
+        return new SyncJob(jobId, userId, SyncJobStatus.RUNNING, progressList, 0, 0, 0, null);
+    }
+
+    public SyncJob cardFetched(Long cardId, int fetchedCount, String cardErrorCode) {
+        List<SyncJobResponse.CardProgress> progressList = new ArrayList<>(cardProgressList.size());
+        SyncJobStatus cardStatus = cardErrorCode == null ? SyncJobStatus.COMPLETED : SyncJobStatus.FAILED;
+
+        for (SyncJobResponse.CardProgress progress : cardProgressList) {
+            progressList.add(progress.cardId().equals(cardId)
+                    ? new SyncJobResponse.CardProgress(cardId, cardStatus, fetchedCount, cardErrorCode)
+                    : progress);
+        }
+
+        return new SyncJob(jobId, userId, status, progressList, insertedCount, skippedCount, classifiedCount, errorCode);
+    }
+
+    public SyncJob completed(TransactionSyncResponse response) {
+        return new SyncJob(jobId, userId, SyncJobStatus.COMPLETED, cardProgressList,
+                response.insertedCount(), response.skippedCount(), response.classifiedCount(), null);
+    }
+
+    public SyncJob failed(String errorCode) {
+        return new SyncJob(jobId, userId, SyncJobStatus.FAILED, cardProgressList,
+                insertedCount, skippedCount, classifiedCount, errorCode);
+    }
+
+    public SyncJobResponse toResponse() {
+        return new SyncJobResponse(jobId, status, cardProgressList, insertedCount, skippedCount, classifiedCount, errorCode);
+    }
+}
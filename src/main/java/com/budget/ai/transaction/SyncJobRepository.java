@@ -0,0 +1,41 @@
+package com.budget.ai.transaction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 비동기 거래내역 동기화 작업 상태 저장소
+ * <p>
+ *     어느 서버에서든 상태를 조회할 수 있도록 Redis에 저장하고, 마지막 갱신 후 TTL이 지나면 만료된다.
+ * </p>
+ */
+@Repository
+public class SyncJobRepository {
+
+    private static final String KEY_PREFIX = "syncJob:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /** 작업 상태 보관 기간 */
+    private final Duration ttl;
+
+    public SyncJobRepository(RedisTemplate<String, Object> redisTemplate,
+                             @Value("${transaction.sync.job.ttl-minutes:60}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public void save(SyncJob syncJob) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + syncJob.jobId(), syncJob, ttl);
+    }
+
+    public Optional<SyncJob> findById(String jobId) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+
+        return value instanceof SyncJob syncJob ? Optional.of(syncJob) : Optional.empty();
+    }
+}
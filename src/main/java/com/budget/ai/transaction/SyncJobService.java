@@ -0,0 +1,117 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
+import com.budget.ai.transaction.dto.response.SyncJobResponse;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 거래내역 동기화 작업 Service
+ * <p>
+ *     요청 스레드는 작업 ID만 받아 바로 반환하고, 동기화는 전용 스레드 풀에서 실행한다.
+ *     진행 상황은 카드 단위로 Redis 작업 상태에 기록된다.
+ * </p>
+ */
+@Service
+public class SyncJobService {
+
+    private final TransactionService transactionService;
+    private final SyncJobRepository syncJobRepository;
+    private final TaskExecutor syncJobExecutor;
+
+    public SyncJobService(TransactionService transactionService, SyncJobRepository syncJobRepository,
+                          @Qualifier("syncJobExecutor") TaskExecutor syncJobExecutor) {
+        this.transactionService = transactionService;
+        this.syncJobRepository = syncJobRepository;
+        this.syncJobExecutor = syncJobExecutor;
+    }
+
+    /**
+     * 거래내역 동기화 작업 등록
+     * @param userId  로그인한 사용자 ID
+     * @param request 동기화 시작 날짜, 종료 날짜
+     * @return 등록된 작업 (QUEUED)
+     */
+    public SyncJobResponse submit(Long userId, TransactionSyncRequest request) {
+        SyncJob syncJob = SyncJob.queued(UUID.randomUUID().toString(), userId);
+        syncJobRepository.save(syncJob);
+
+        try {
+            syncJobExecutor.execute(() -> run(syncJob, request));
+        } catch (TaskRejectedException exception) {
+            syncJobRepository.save(syncJob.failed(ErrorCode.SYNC_JOB_REJECTED.getCode()));
+
+            throw new CustomException(ErrorCode.SYNC_JOB_REJECTED);
+        }
+
+        return syncJob.toResponse();
+    }
+
+    /**
+     * 거래내역 동기화 작업 조회
+     * @param userId 로그인한 사용자 ID
+     * @param jobId  작업 ID
+     * @return 작업 상태와 카드별 진행 상황
+     */
+    public SyncJobResponse getJob(Long userId, String jobId) {
+        return syncJobRepository.findById(jobId)
+                .filter(syncJob -> syncJob.userId().equals(userId))
+                .map(SyncJob::toResponse)
+                .orElseThrow(() -> new CustomException(ErrorCode.SYNC_JOB_NOT_FOUND));
+    }
+
+    private void run(SyncJob queuedJob, TransactionSyncRequest request) {
+        JobProgressRecorder recorder = new JobProgressRecorder(queuedJob);
+
+        try {
+            TransactionSyncResponse response = transactionService.syncTransaction(queuedJob.userId(), request, recorder);
+            recorder.update(recorder.current().completed(response));
+        } catch (CustomException exception) {
+            recorder.update(recorder.current().failed(exception.getErrorCode().getCode()));
+        } catch (RuntimeException exception) {
+            recorder.update(recorder.current().failed(ErrorCode.INTERNAL_ERROR.getCode()));
+        }
+    }
+
+    /**
+     * 동기화 진행 상황을 작업 상태에 기록
+     * <p>
+     *     동기화 한 건 안에서만 사용되며, 상태 변경은 동기화 스레드에서 순서대로 일어난다.
+     * </p>
+     */
+    private class JobProgressRecorder implements SyncProgressListener {
+
+        private SyncJob syncJob;
+
+        private JobProgressRecorder(SyncJob syncJob) {
+            this.syncJob = syncJob;
+        }
+
+        @Override
+        public void onStarted(List<Long> cardIdList) {
+            update(syncJob.started(cardIdList));
+        }
+
+        @Override
+        public void onCardFetched(Long cardId, int fetchedCount, String errorCode) {
+            update(syncJob.cardFetched(cardId, fetchedCount, errorCode));
+        }
+
+        private SyncJob current() {
+            return syncJob;
+        }
+
+        private void update(SyncJob syncJob) {
+            this.syncJob = syncJob;
+            syncJobRepository.save(syncJob);
+        }
+    }
+}
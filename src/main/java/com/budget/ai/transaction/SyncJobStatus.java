@@ -0,0 +1,21 @@
+package com.budget.ai.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 거래내역 동기화 작업 상태
+ * <p>
+ *     작업 전체와 카드별 진행 상태에 함께 사용
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum SyncJobStatus {
+    QUEUED("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String displayName;
+}
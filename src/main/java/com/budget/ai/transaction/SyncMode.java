@@ -0,0 +1,19 @@
+package com.budget.ai.transaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래내역 동기화 방식
+ * <p>
+ *     요청 기간 전체, 카드별 커서 이후만
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum SyncMode {
+    FULL("전체 동기화"),
+    INCREMENTAL("증분 동기화");
+
+    private final String displayName;
+}
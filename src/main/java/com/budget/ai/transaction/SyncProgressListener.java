@@ -0,0 +1,38 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.logging.LogOmitted;
+
+import java.util.List;
+
+/**
+ * 거래내역 동기화 진행 상황 수신
+ * <p>
+ *     동기 호출은 {@link #NONE}을 사용하고, 비동기 작업은 진행 상황을 작업 상태에 기록한다.
+ *     작업 로그에는 값 대신 이름만 기록한다.
+ * </p>
+ */
+public interface SyncProgressListener extends LogOmitted {
+
+    SyncProgressListener NONE = new SyncProgressListener() { };
+
+    /**
+     * 동기화 대상 카드 확정
+     * @param cardIdList 동기화할 카드 ID 목록
+     */
+    default void onStarted(List<Long> cardIdList) {
+    }
+
+    /**
+     * 카드별 거래내역 조회 완료
+     * @param cardId       카드 ID
+     * @param fetchedCount 조회된 거래 수 (실패 시 0)
+     * @param errorCode    실패 시 오류 코드 (성공 시 null)
+     */
+    default void onCardFetched(Long cardId, int fetchedCount, String errorCode) {
+    }
+
+    @Override
+    default String logName() {
+        return SyncProgressListener.class.getSimpleName();
+    }
+}
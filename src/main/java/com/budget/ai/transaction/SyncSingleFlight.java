@@ -0,0 +1,180 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 거래내역 동기화 single-flight
+ * <p>
+ *     같은 회원·같은 조건의 동기화가 이미 진행 중이면 새로 시작하지 않고 진행 중인 동기화의 결과를 함께 받는다.
+ *     서버 안에서는 진행 중인 Future를 공유하고, 서버 간에는 Redis lease (SET NX PX) 로 한 서버만 실행한다.
+ *     다른 서버가 실행 중이면 lease 토큰으로 결과 키를 기다리고, 결과 없이 lease가 사라지면 (실패·만료) 직접 실행한다.
+ * </p>
+ */
+@Component
+public class SyncSingleFlight {
+
+    private static final String LEASE_KEY_PREFIX = "syncLease:";
+    private static final String RESULT_KEY_PREFIX = "syncResult:";
+
+    private final RedisLease redisLease;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /** 서버 안에서 진행 중인 동기화 (flight 키 → 결과) */
+    private final ConcurrentHashMap<String, CompletableFuture<TransactionSyncResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /** lease 유지 시간 (동기화 최대 소요 시간보다 길어야 함) */
+    private final Duration leaseTtl;
+
+    /** 다른 서버의 동기화 결과 보관 시간 */
+    private final Duration resultTtl;
+
+    /** 진행 중인 동기화 결과 최대 대기 시간 */
+    private final Duration waitTimeout;
+
+    /** 다른 서버 결과 확인 간격 */
+    private final Duration pollInterval;
+
+    public SyncSingleFlight(RedisLease redisLease, RedisTemplate<String, Object> redisTemplate,
+                            @Value("${transaction.sync.single-flight.lease-seconds:180}") long leaseSeconds,
+                            @Value("${transaction.sync.single-flight.result-ttl-seconds:30}") long resultTtlSeconds,
+                            @Value("${transaction.sync.single-flight.wait-timeout-seconds:180}") long waitTimeoutSeconds,
+                            @Value("${transaction.sync.single-flight.poll-interval-millis:200}") long pollIntervalMillis) {
+        this.redisLease = redisLease;
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+        this.pollInterval = Duration.ofMillis(pollIntervalMillis);
+    }
+
+    /**
+     * 동기화 실행 또는 진행 중인 동기화에 합류
+     * @param userId  회원 ID
+     * @param request 동기화 조건 (조건이 같을 때만 합류)
+     * @param sync    실제 동기화
+     * @return 동기화 결과 (합류한 경우 진행 중이던 동기화의 결과)
+     */
+    public TransactionSyncResponse execute(Long userId, TransactionSyncRequest request, Supplier<TransactionSyncResponse> sync) {
+        String flightKey = userId + ":" + request.startDate() + ":" + request.endDate() + ":" + request.syncMode();
+
+        CompletableFuture<TransactionSyncResponse> future = new CompletableFuture<>();
+        CompletableFuture<TransactionSyncResponse> running = inFlight.putIfAbsent(flightKey, future);
+
+        // 1. 같은 서버에서 진행 중이면 합류
+        if (running != null) {
+            return await(running);
+        }
+
+        // 2. 서버 간 lease 획득 후 실행, 이 서버의 후속 요청은 future로 결과 공유
+        try {
+            TransactionSyncResponse response = runWithLease(flightKey, sync);
+            future.complete(response);
+
+            return response;
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+
+            throw exception;
+        } finally {
+            inFlight.remove(flightKey, future);
+        }
+    }
+
+    private TransactionSyncResponse runWithLease(String flightKey, Supplier<TransactionSyncResponse> sync) {
+        String leaseKey = LEASE_KEY_PREFIX + flightKey;
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            String token = UUID.randomUUID().toString();
+
+            // 2-1. lease 획득: 직접 실행 후 다른 서버가 볼 수 있도록 결과 기록
+            if (redisLease.acquire(leaseKey, token, leaseTtl)) {
+                try {
+                    TransactionSyncResponse response = sync.get();
+                    redisTemplate.opsForValue().set(RESULT_KEY_PREFIX + flightKey + ":" + token, response, resultTtl);
+
+                    return response;
+                } finally {
+                    redisLease.release(leaseKey, token);
+                }
+            }
+
+            // 2-2. 다른 서버가 실행 중: 해당 lease의 결과를 기다림
+            String runningToken = redisLease.holder(leaseKey);
+            if (runningToken == null) {
+                continue;
+            }
+
+            TransactionSyncResponse response = awaitRemote(leaseKey, RESULT_KEY_PREFIX + flightKey + ":" + runningToken,
+                    runningToken, deadline);
+
+            if (response != null) {
+                return response;
+            }
+            // 결과 없이 lease가 사라지면 (실패·만료) 다시 획득 시도
+        }
+    }
+
+    /**
+     * 다른 서버 동기화 결과 대기
+     * @return 결과, lease가 결과 없이 사라지면 null
+     */
+    private TransactionSyncResponse awaitRemote(String leaseKey, String resultKey, String runningToken, long deadline) {
+        while (System.nanoTime() < deadline) {
+            Object result = redisTemplate.opsForValue().get(resultKey);
+            if (result instanceof TransactionSyncResponse response) {
+                return response;
+            }
+
+            if (!runningToken.equals(redisLease.holder(leaseKey))) {
+                // lease 해제 직후 결과가 기록되었을 수 있으므로 한 번 더 확인
+                Object lastResult = redisTemplate.opsForValue().get(resultKey);
+
+                return lastResult instanceof TransactionSyncResponse response ? response : null;
+            }
+
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+                throw new CustomException(ErrorCode.SYNC_IN_PROGRESS);
+            }
+        }
+
+        throw new CustomException(ErrorCode.SYNC_IN_PROGRESS);
+    }
+
+    private TransactionSyncResponse await(CompletableFuture<TransactionSyncResponse> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        } catch (TimeoutException exception) {
+            throw new CustomException(ErrorCode.SYNC_IN_PROGRESS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new CustomException(ErrorCode.SYNC_IN_PROGRESS);
+        }
+    }
+}
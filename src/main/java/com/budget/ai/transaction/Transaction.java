@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(name = "uq_txn", columnNames = {"card_id", "merchant_id", "transaction_at"}),
         indexes = {
                 @Index(name = "idx_txn_time", columnList = "card_id, merchant_id, transaction_at"),
-                @Index(name = "idx_original_merchant", columnList = "original_merchant_id")
+                @Index(name = "idx_original_merchant", columnList = "original_merchant_id"),
+                @Index(name = "idx_txn_categorization_status", columnList = "categorization_status, merchant_name"),
+                @Index(name = "idx_txn_merchant_key", columnList = "normalized_merchant_key")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -54,6 +56,14 @@ public class Transaction extends BaseTimeEntity {
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    /**
+     * 카테고리 분류 상태 (PENDING이면 임시 카테고리)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private CategorizationStatus categorizationStatus = CategorizationStatus.COMPLETED;
+
     /**
      * 카드사 거래 고유 ID
      */
@@ -77,6 +87,11 @@ public class Transaction extends BaseTimeEntity {
     @Column(nullable = false)
     private String merchantName;
 
+    /**
+     * 가맹점 키 (지점명·매장 번호를 제거한 브랜드 단위 키)
+     */
+    private String normalizedMerchantKey;
+
     /**
      * 가게 주소
      */
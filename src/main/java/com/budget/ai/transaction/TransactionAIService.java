@@ -1,5 +1,6 @@
 package com.budget.ai.transaction;
 
+import com.budget.ai.external.openai.OpenAIResilience;
 import com.budget.ai.external.openai.OpenAIService;
 import com.budget.ai.logging.aop.OperationLog;
 import com.budget.ai.response.CustomException;
@@ -11,6 +12,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,23 +26,78 @@ public class TransactionAIService {
 
     private final TransactionService transactionService;
     private final OpenAIService openAIService;
+    private final RecommendSavingCache recommendSavingCache;
     private final ObjectMapper objectMapper;
 
     /**
      * 카테고리별 절약 추천 방법
+     * <p>
+     *     통계 조회는 호출 스레드에서 바로 수행하고, OpenAI 응답은 기다리지 않고 Mono 로 반환한다.
+     *     지출 구성이 같은 통계의 추천은 캐시에서 재사용하고, 동시 캐시 미스는 OpenAI 호출 한 번을 공유한다.
+     *     서킷이 열렸거나 동시 호출 수가 차 OpenAI 를 사용할 수 없으면 회원의 최근 추천(없으면 빈 추천)을 대체 응답으로 반환한다.
+     * </p>
      * @param userId    로그인한 사용자 ID
      * @param startDate 조회 시작 날짜
      * @param endDate   조회 종료 날짜
      * @return
      */
     @OperationLog(eventName = "카테고리별 절약 방법 추천")
-    public CategorySavingResponse recommendSaving(Long userId, LocalDate startDate, LocalDate endDate) {
+    public Mono<CategorySavingResponse> recommendSaving(Long userId, LocalDate startDate, LocalDate endDate) {
         // 1. 카테고리별 거래 내역 통계 조회
         SumCategoryTransactionResponse sumCategoryTransaction = transactionService.getSumCategoryTransaction(userId, startDate, endDate);
 
-        // 2. 통계를 가지고 OepnAI API 호출
-        String jsonString = openAIService.recommendSavingForCategory(sumCategoryTransaction);
+        // 2. 통계를 가지고 OepnAI API 호출 (같은 지출 구성의 추천이 캐시에 있으면 재사용)
+        return recommendSavingCache.getOrLoad(userId, sumCategoryTransaction, () ->
+                        openAIService.recommendSavingForCategoryAsync(sumCategoryTransaction)
+                                .map(this::toCategorySavingResponse))
+                // 3. OpenAI 를 사용할 수 없으면 기다리지 않고 최근 추천으로 대체
+                .onErrorResume(OpenAIResilience::isUnavailable, ex -> recommendSavingCache.findLatest(userId)
+                        .map(latest -> CategorySavingResponse.fallbackOf(latest.savingInfoList()))
+                        .defaultIfEmpty(CategorySavingResponse.fallbackOf(List.of())));
+    }
+
+    /**
+     * 카테고리별 절약 추천 방법 (스트리밍)
+     * <p>
+     *     OpenAI 응답을 stream=true 로 받아 카테고리·절약 방법 쌍이 완성될 때마다 바로 내보낸다.
+     *     같은 지출 구성의 추천이 캐시에 있으면 캐시된 추천을 바로 내보내고, 스트리밍이 끝나면 결과를 캐시에 기록해
+     *     일반 조회와 캐시를 공유한다. 캐시 미스는 일반 조회와 같은 single-flight 를 거치므로, 같은 추천을 생성 중인
+     *     요청이 있으면 OpenAI 를 다시 호출하지 않고 생성이 끝난 결과를 한 번에 내보낸다.
+     *     OpenAI 를 사용할 수 없으면 회원의 최근 추천을 내보내고, 최근 추천도 없으면 API_CALL_UNAVAILABLE 로 실패한다.
+     * </p>
+     * <p>
+     *     통계 조회도 구독 시점에 수행하므로 모든 오류는 스트림 오류로 전달된다.
+     * </p>
+     * @param userId    로그인한 사용자 ID
+     * @param startDate 조회 시작 날짜
+     * @param endDate   조회 종료 날짜
+     * @return 카테고리별 절약 방법
+     */
+    @OperationLog(eventName = "카테고리별 절약 방법 스트리밍 추천")
+    public Flux<CategorySavingResponse.SavingInfo> streamRecommendSaving(Long userId, LocalDate startDate, LocalDate endDate) {
+        return Flux.defer(() -> {
+            // 1. 카테고리별 거래 내역 통계 조회
+            SumCategoryTransactionResponse sumCategoryTransaction = transactionService.getSumCategoryTransaction(userId, startDate, endDate);
+
+            // 2. 캐시된 추천이 있으면 바로 내보내고, 없으면 single-flight 로 OpenAI 스트리밍 호출
+            return recommendSavingCache.getOrStream(userId, sumCategoryTransaction,
+                    () -> streamSavingInfo(sumCategoryTransaction));
+        })
+                // 3. OpenAI 를 사용할 수 없으면 기다리지 않고 최근 추천으로 대체
+                .onErrorResume(OpenAIResilience::isUnavailable, ex -> recommendSavingCache.findLatest(userId)
+                        .flatMapIterable(CategorySavingResponse::savingInfoList)
+                        .switchIfEmpty(Flux.error(ex)));
+    }
+
+    private Flux<CategorySavingResponse.SavingInfo> streamSavingInfo(SumCategoryTransactionResponse statistic) {
+        SavingInfoStreamParser parser = new SavingInfoStreamParser(objectMapper.getFactory());
+
+        return openAIService.streamRecommendSavingForCategory(statistic)
+                .concatMapIterable(parser::feed)
+                .concatWith(Mono.fromRunnable(parser::finish));
+    }
 
+    private CategorySavingResponse toCategorySavingResponse(String jsonString) {
         try {
             Map<String, String> map = objectMapper.readValue(jsonString, new TypeReference<Map<String, String>>() {});
 
@@ -47,7 +105,7 @@ public class TransactionAIService {
                     .map(e -> new CategorySavingResponse.SavingInfo(e.getKey(), e.getValue()))
                     .collect(Collectors.toList());
 
-            return new CategorySavingResponse(savingInfoList);
+            return CategorySavingResponse.of(savingInfoList);
         } catch (JsonProcessingException e) {
             throw new CustomException(ErrorCode.CONVERT_JSON_PARSING);
         }
@@ -0,0 +1,151 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.category.MerchantNameNormalizer;
+import com.budget.ai.transaction.dto.TransactionRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래내역 일괄 저장 Repository
+ * <p>
+ *     IDENTITY 키 엔티티는 Hibernate 배치 INSERT가 되지 않으므로, 동기화 경로는 JDBC로 다중 행 INSERT IGNORE를 직접 실행한다.
+ *     uq_txn (card_id, merchant_id, transaction_at) 에 걸리는 행은 오류 없이 건너뛰고 건수로만 집계한다.
+ *     IGNORE 는 외래 키 위반·값 잘림·NOT NULL 위반도 경고로 바꾸므로, INSERT 마다 같은 커넥션에서 SHOW WARNINGS 를 읽어
+ *     uq_txn 중복이 아닌 경고가 있으면 예외를 던져 트랜잭션을 롤백한다.
+ *     가맹점 키는 저장 시 가맹점 이름으로 계산해 함께 기록한다.
+ * </p>
+ */
+@Repository
+public class TransactionBulkWriter {
+
+    private static final String INSERT_PREFIX = """
+            INSERT IGNORE INTO transactions
+            (user_id, card_id, category_id, categorization_status, merchant_id, original_merchant_id, amount, merchant_name,
+             normalized_merchant_key, merchant_address, transaction_at, transaction_status, created_at, updated_at)
+            VALUES
+            """;
+
+    private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int COLUMN_COUNT = 14;
+
+    /** MySQL 중복 키 오류 코드 (ER_DUP_ENTRY) */
+    private static final int DUPLICATE_ENTRY_CODE = 1062;
+
+    private static final String DUPLICATE_KEY_NAME = "uq_txn";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** INSERT 1회당 행 수 */
+    private final int batchSize;
+
+    public TransactionBulkWriter(JdbcTemplate jdbcTemplate,
+                                 @Value("${transaction.sync.insert-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 거래내역 일괄 저장
+     * @param rowList 저장할 거래 목록
+     * @return 저장 건수, 중복으로 건너뛴 건수
+     */
+    public WriteResult insertIgnore(List<TransactionRow> rowList) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // INSERT 직후 같은 커넥션에서 경고를 읽어야 하므로 커넥션 하나로 실행
+        Integer insertedCount = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            int count = 0;
+
+            for (int from = 0; from < rowList.size(); from += batchSize) {
+                List<TransactionRow> chunk = rowList.subList(from, Math.min(from + batchSize, rowList.size()));
+
+                try (PreparedStatement statement = connection.prepareStatement(insertSql(chunk.size()))) {
+                    new ArgumentPreparedStatementSetter(args(chunk, now)).setValues(statement);
+                    count += statement.executeUpdate();
+                }
+
+                verifyOnlyDuplicateWarnings(connection);
+            }
+
+            return count;
+        });
+
+        return new WriteResult(insertedCount, rowList.size() - insertedCount);
+    }
+
+    /**
+     * 직전 INSERT IGNORE 경고 확인
+     * @throws DataIntegrityViolationException uq_txn 중복이 아닌 경고 (외래 키 위반, 값 잘림 등) 가 있는 경우
+     */
+    private void verifyOnlyDuplicateWarnings(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet warnings = statement.executeQuery("SHOW WARNINGS")) {
+            while (warnings.next()) {
+                String message = warnings.getString("Message");
+
+                if (warnings.getInt("Code") != DUPLICATE_ENTRY_CODE || !message.contains(DUPLICATE_KEY_NAME)) {
+                    throw new DataIntegrityViolationException("거래내역 일괄 저장 실패: " + message);
+                }
+            }
+        }
+    }
+
+    private String insertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_PLACEHOLDER);
+        }
+
+        return sql.toString();
+    }
+
+    private Object[] args(List<TransactionRow> chunk, Timestamp now) {
+        List<Object> args = new ArrayList<>(chunk.size() * COLUMN_COUNT);
+
+        for (TransactionRow row : chunk) {
+            args.add(row.userId());
+            args.add(row.cardId());
+            args.add(row.categoryId());
+            args.add(row.categorizationStatus().name());
+            args.add(row.merchantId());
+            args.add(row.originalMerchantId());
+            args.add(row.amount());
+            args.add(row.merchantName());
+            args.add(MerchantNameNormalizer.toMerchantKey(row.merchantName()));
+            args.add(row.merchantAddress());
+            args.add(Timestamp.valueOf(row.transactionAt()));
+            args.add(row.transactionStatus().name());
+            args.add(now);
+            args.add(now);
+        }
+
+        return args.toArray();
+    }
+
+    /**
+     * 일괄 저장 결과
+     * @param insertedCount 저장 건수
+     * @param skippedCount  중복으로 건너뛴 건수
+     */
+    public record WriteResult(int insertedCount, int skippedCount) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.budget.ai.transaction;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 거래 데이터 세대 번호
+ * <p>
+ *     sumCategoryTransaction 캐시 키에 세대 번호를 포함시키고, 거래 데이터가 바뀌면 INCR 한 번으로 세대를 올린다.
+ *     이전 세대 키는 더 이상 조회되지 않고 캐시 TTL로 만료되므로 KEYS 스캔 없이 무효화된다.
+ * </p>
+ */
+@Component
+public class TransactionCacheGeneration {
+
+    private static final String KEY_PREFIX = "cacheGeneration:sumCategoryTransaction:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public TransactionCacheGeneration(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 현재 세대 번호 조회 (캐시 키 SpEL에서 사용)
+     * @param userId 회원 ID
+     * @return 세대 번호, 한 번도 올린 적 없으면 "0"
+     */
+    public String current(Long userId) {
+        String generation = stringRedisTemplate.opsForValue().get(KEY_PREFIX + userId);
+
+        return generation != null ? generation : "0";
+    }
+
+    /**
+     * 세대 번호 증가
+     * <p>
+     *     트랜잭션 안에서 호출되면 커밋 후에 올려서, 커밋 전 데이터가 새 세대로 캐시되지 않게 한다.
+     * </p>
+     * @param userId 회원 ID
+     */
+    public void bump(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(userId);
+            }
+        });
+    }
+
+    private void increment(Long userId) {
+        stringRedisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+    }
+}
@@ -1,20 +1,30 @@
 package com.budget.ai.transaction;
 
 import com.budget.ai.auth.CustomUserDetails;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.response.ErrorResponse;
 import com.budget.ai.response.SuccessResponse;
 import com.budget.ai.transaction.dto.request.TransactionQueryRequest;
 import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
 import com.budget.ai.transaction.dto.response.CategorySavingResponse;
 import com.budget.ai.transaction.dto.response.SumCategoryTransactionResponse;
+import com.budget.ai.transaction.dto.response.SyncJobResponse;
 import com.budget.ai.transaction.dto.response.TransactionResponse;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 
@@ -31,10 +41,12 @@ public class TransactionController {
 
     private final TransactionService transactionService;
     private final TransactionAIService transactionAIService;
+    private final SyncJobService syncJobService;
 
     /**
      * 거래 내역 동기화
      * @param userDetails 로그인한 회원 정보
+     * @return 동기화 결과 (조회 실패로 제외된 카드 포함)
      */
     @Operation(summary = "거래 내역 동기화", description = "거래 내역을 동기화합니다.")
     @ApiResponses(value = {
@@ -42,14 +54,60 @@ public class TransactionController {
             @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터"),
             @ApiResponse(responseCode = "401", description = "로그인 필요"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 회원"),
+            @ApiResponse(responseCode = "409", description = "진행 중인 동기화 대기 시간 초과"),
             @ApiResponse(responseCode = "500", description = "서버 오류"),
     })
     @PostMapping("/sync")
-    public ResponseEntity<SuccessResponse<Void>> syncTransaction(
+    public ResponseEntity<SuccessResponse<TransactionSyncResponse>> syncTransaction(
             @Valid @RequestBody TransactionSyncRequest request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        transactionService.syncTransaction(userDetails.id(), request);
-        return ResponseEntity.ok(SuccessResponse.of());
+        TransactionSyncResponse response = transactionService.syncTransaction(userDetails.id(), request, SyncProgressListener.NONE);
+        return ResponseEntity.ok(SuccessResponse.of(response));
+    }
+
+    /**
+     * 거래 내역 비동기 동기화 작업 등록
+     * @param userDetails 로그인한 회원 정보
+     * @return 등록된 작업 ID와 상태
+     */
+    @Operation(summary = "거래 내역 비동기 동기화", description = "거래 내역 동기화 작업을 등록하고 작업 ID를 바로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "동기화 작업 등록 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "503", description = "동기화 작업 대기열 초과"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+    })
+    @PostMapping("/sync/async")
+    public ResponseEntity<SuccessResponse<SyncJobResponse>> submitSyncJob(
+            @Valid @RequestBody TransactionSyncRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SyncJobResponse response = syncJobService.submit(userDetails.id(), request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(SuccessResponse.of(HttpStatus.ACCEPTED, response));
+    }
+
+    /**
+     * 거래 내역 동기화 작업 상태 조회
+     * @param userDetails 로그인한 회원 정보
+     * @param jobId       작업 ID
+     * @return 작업 상태, 카드별 진행 상황, 저장·중복·AI 분류 건수
+     */
+    @Operation(summary = "거래 내역 동기화 작업 조회", description = "비동기 동기화 작업의 진행 상황을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "동기화 작업 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 동기화 작업"),
+            @ApiResponse(responseCode = "500", description = "서버 오류"),
+    })
+    @GetMapping("/sync/{jobId}")
+    public ResponseEntity<SuccessResponse<SyncJobResponse>> getSyncJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SyncJobResponse response = syncJobService.getJob(userDetails.id(), jobId);
+
+        return ResponseEntity.ok(SuccessResponse.of(response));
     }
 
     /**
@@ -116,15 +174,52 @@ public class TransactionController {
             @ApiResponse(responseCode = "500", description = "서버 오류"),
     })
     @GetMapping("/recommend-saving")
-    public ResponseEntity<SuccessResponse<CategorySavingResponse>> getRecommendSaving(
+    public Mono<ResponseEntity<SuccessResponse<CategorySavingResponse>>> getRecommendSaving(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam String startDate,
             @RequestParam String endDate) {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
 
-        CategorySavingResponse categorySavingResponse = transactionAIService.recommendSaving(userDetails.id(), start, end);
+        // OpenAI 응답을 기다리는 동안 요청 스레드 반환 (응답은 비동기 디스패치로 전송)
+        return transactionAIService.recommendSaving(userDetails.id(), start, end)
+                .map(categorySavingResponse -> ResponseEntity.ok(SuccessResponse.of(categorySavingResponse)));
+    }
+
+    /**
+     * 카테고리별 절약 추천 방법 스트리밍 조회
+     * <p>
+     *     카테고리·절약 방법 쌍이 완성될 때마다 saving 이벤트로 보내고, 모두 보내면 done 이벤트로 끝을 알린다.
+     *     응답을 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 오류는 error 이벤트(ErrorResponse)로 보낸다.
+     * </p>
+     * @param userDetails 로그인한 회원 정보
+     * @param startDate   조회 시작 날짜
+     * @param endDate     조회 종료 날짜
+     * @return
+     */
+    @Operation(summary = "카테고리별 절약 추천 방법 스트리밍 조회",
+            description = "AI가 추천하는 카테고리별 절약 방법을 카테고리 단위 SSE 이벤트(saving, done, error)로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "카테고리별 절약 추천 방법 스트리밍 시작"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+    })
+    @GetMapping(value = "/recommend-saving/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamRecommendSaving(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        return Flux.defer(() -> transactionAIService.streamRecommendSaving(
+                        userDetails.id(), LocalDate.parse(startDate), LocalDate.parse(endDate)))
+                .map(savingInfo -> ServerSentEvent.<Object>builder(savingInfo).event("saving").build())
+                .concatWith(Mono.just(ServerSentEvent.<Object>builder("[DONE]").event("done").build()))
+                .onErrorResume(ex -> Mono.just(ServerSentEvent.<Object>builder(toErrorResponse(ex)).event("error").build()));
+    }
+
+    private ErrorResponse toErrorResponse(Throwable throwable) {
+        ErrorCode errorCode = throwable instanceof CustomException exception
+                ? exception.getErrorCode()
+                : ErrorCode.INTERNAL_ERROR;
 
-        return ResponseEntity.ok(SuccessResponse.of(categorySavingResponse));
+        return ErrorResponse.of(errorCode.getStatus(), errorCode.getCode(), errorCode.getMessage());
     }
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.budget.ai.transaction;
 
 import com.budget.ai.card.QCard;
+import com.budget.ai.category.CategoryRegistry;
 import com.budget.ai.transaction.dto.SumCategoryTransaction;
+import com.budget.ai.transaction.dto.TransactionKey;
 import com.budget.ai.transaction.dto.TransactionReportDto;
 import com.budget.ai.transaction.dto.request.TransactionQueryRequest;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
@@ -14,7 +17,9 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.budget.ai.category.QCategory.category;
 import static com.budget.ai.transaction.QTransaction.transaction;
@@ -23,6 +28,7 @@ import static com.budget.ai.transaction.QTransaction.transaction;
 @Repository
 public class TransactionQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
+    private final CategoryRegistry categoryRegistry;
 
     public List<TransactionReportDto> getTransactionCategorySum(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
         // 순 지출 금액 (승인 + 취소 상쇄)
@@ -52,36 +58,60 @@ public class TransactionQueryRepository {
         // 순 지출 금액 (승인 + 취소 상쇄)
         NumberExpression<BigDecimal> netAmountSum = netAmountExpression(transaction);
 
-        // 카테고리별 합계 + 거래 수 조회
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                    SumCategoryTransaction.CategoryInfo.class,
-                        transaction.category.id,
-                        transaction.category.displayName,
-                        netAmountSum,
-                        transaction.id.count()
-                ))
+        NumberPath<Long> categoryId = transaction.category.id;
+        NumberExpression<Long> transactionCount = transaction.id.count();
+
+        // 카테고리별 합계 + 거래 수 조회 (categories 조인 없이 외래 키로 그룹화)
+        List<Tuple> rowList = jpaQueryFactory
+                .select(categoryId, netAmountSum, transactionCount)
                 .from(transaction)
-                .join(transaction.category, category)
                 .where(
                         transaction.user.id.eq(userId),
                         transaction.transactionAt.between(startDate, endDate)
                 )
-                .groupBy(transaction.category.id, transaction.category.displayName)
+                .groupBy(categoryId)
                 .orderBy(netAmountSum.desc())
                 .fetch();
+
+        // 카테고리 이름은 메모리 레지스트리에서 채움
+        return rowList.stream()
+                .map(row -> new SumCategoryTransaction.CategoryInfo(
+                        row.get(categoryId),
+                        categoryRegistry.findById(row.get(categoryId))
+                                .map(CategoryRegistry.CategoryInfo::displayName)
+                                .orElse(null),
+                        row.get(netAmountSum),
+                        row.get(transactionCount)
+                ))
+                .toList();
     }
 
-    public boolean existsTransaction(Long cardId, String merchantId, LocalDateTime transactionAt) {
-        return jpaQueryFactory
-                .selectOne()
+    /**
+     * 카드·기간 내 저장된 거래 키 조회
+     * <p>
+     *     uq_txn (card_id, merchant_id, transaction_at) 인덱스만으로 처리되어 카드당 한 번의 조회로 중복 여부를 판단한다.
+     * </p>
+     * @param cardId    카드 고유 식별자
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate   조회 종료 시각 (미포함)
+     * @return (가맹점 거래 ID, 거래 시각) 키 Set
+     */
+    public Set<TransactionKey> findTransactionKeys(Long cardId, LocalDateTime startDate, LocalDateTime endDate) {
+        List<TransactionKey> keyList = jpaQueryFactory
+                .select(Projections.constructor(
+                        TransactionKey.class,
+                        transaction.merchantId,
+                        transaction.transactionAt
+                ))
                 .from(transaction)
                 .where(
                         transaction.card.id.eq(cardId),
-                        transaction.merchantId.eq(merchantId),
-                        transaction.transactionAt.eq(transactionAt)
+                        transaction.transactionAt.goe(startDate),
+                        transaction.transactionAt.lt(endDate)
                 )
-                .fetchFirst() != null;
+                .fetch();
+
+        return new HashSet<>(keyList);
     }
 
     public long searchTotalElements(TransactionQueryRequest request, Long userId) {
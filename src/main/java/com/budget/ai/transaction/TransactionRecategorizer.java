@@ -0,0 +1,144 @@
+package com.budget.ai.transaction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 가맹점 단위 거래 카테고리 일괄 변경
+ * <p>
+ *     idx_txn_merchant_key 로 가맹점 키가 같은 거래 중 카테고리가 다르거나 분류 대기인 거래를 id 순으로 chunkSize 건씩 잠그고,
+ *     id 목록으로 한 번에 UPDATE 한다. chunk 마다 짧은 트랜잭션으로 커밋하므로 InnoDB 행 잠금은 chunk 단위로만 유지된다.
+ *     chunk 가 커밋될 때마다 그 chunk 에서 거래가 바뀐 회원의 통계 캐시 세대를 올리므로, 뒤 chunk 가 실패해도 커밋된 변경은 반영된다.
+ * </p>
+ */
+@Component
+public class TransactionRecategorizer {
+
+    private static final String SELECT_CHUNK_SQL = """
+            SELECT id, user_id
+            FROM transactions
+            WHERE normalized_merchant_key = :merchantKey
+              AND id > :lastId
+              AND (category_id <> :categoryId OR categorization_status <> 'COMPLETED')
+            ORDER BY id
+            LIMIT :chunkSize
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_CHUNK_SQL = """
+            UPDATE transactions
+            SET category_id = :categoryId, categorization_status = 'COMPLETED', updated_at = :now
+            WHERE id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionCacheGeneration transactionCacheGeneration;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 트랜잭션 1회당 변경 거래 수 */
+    private final int chunkSize;
+
+    public TransactionRecategorizer(NamedParameterJdbcTemplate jdbcTemplate,
+                                    TransactionCacheGeneration transactionCacheGeneration,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${category.recategorize.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionCacheGeneration = transactionCacheGeneration;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 가맹점 키가 같은 거래의 카테고리 변경
+     * @param merchantKey 가맹점 키
+     * @param categoryId  변경할 카테고리 식별자
+     * @return 변경 거래 수, 거래가 바뀐 회원 수
+     */
+    public Result recategorize(String merchantKey, Long categoryId) {
+        Set<Long> userIds = new HashSet<>();
+        int updatedCount = 0;
+        long lastId = 0;
+
+        while (true) {
+            ChunkResult chunk = updateChunk(merchantKey, categoryId, lastId);
+
+            if (chunk == null || chunk.ids().isEmpty()) {
+                break;
+            }
+
+            updatedCount += chunk.updatedCount();
+
+            // 묶음이 커밋될 때마다 새로 바뀐 회원의 통계 캐시 무효화 (뒤 묶음이 실패해도 커밋된 묶음의 회원은 반영)
+            // 이전 세대 키는 TTL로 만료
+            for (Long userId : chunk.userIds()) {
+                if (userIds.add(userId)) {
+                    transactionCacheGeneration.bump(userId);
+                }
+            }
+
+            lastId = chunk.ids().get(chunk.ids().size() - 1);
+
+            if (chunk.ids().size() < chunkSize) {
+                break;
+            }
+        }
+
+        return new Result(updatedCount, userIds.size());
+    }
+
+    private ChunkResult updateChunk(String merchantKey, Long categoryId, long lastId) {
+        return transactionTemplate.execute(status -> {
+            MapSqlParameterSource selectParams = new MapSqlParameterSource()
+                    .addValue("merchantKey", merchantKey)
+                    .addValue("lastId", lastId)
+                    .addValue("categoryId", categoryId)
+                    .addValue("chunkSize", chunkSize);
+
+            List<Long> ids = new ArrayList<>();
+            Set<Long> userIds = new HashSet<>();
+            jdbcTemplate.query(SELECT_CHUNK_SQL, selectParams, rs -> {
+                ids.add(rs.getLong("id"));
+                userIds.add(rs.getLong("user_id"));
+            });
+
+            if (ids.isEmpty()) {
+                return new ChunkResult(ids, userIds, 0);
+            }
+
+            MapSqlParameterSource updateParams = new MapSqlParameterSource()
+                    .addValue("categoryId", categoryId)
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+                    .addValue("ids", ids);
+
+            return new ChunkResult(ids, userIds, jdbcTemplate.update(UPDATE_CHUNK_SQL, updateParams));
+        });
+    }
+
+    /**
+     * 카테고리 변경 결과
+     * @param transactionCount  변경 거래 수
+     * @param affectedUserCount 거래가 바뀐 회원 수
+     */
+    public record Result(int transactionCount, int affectedUserCount) {
+    }
+
+    /**
+     * chunk 처리 결과
+     * @param ids          잠근 거래 id (오름차순)
+     * @param userIds      잠근 거래의 회원
+     * @param updatedCount 변경 거래 수
+     */
+    private record ChunkResult(List<Long> ids, Set<Long> userIds, int updatedCount) {
+    }
+}
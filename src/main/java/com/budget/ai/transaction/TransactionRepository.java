@@ -1,9 +1,25 @@
 package com.budget.ai.transaction;
 
+import com.budget.ai.transaction.dto.MerchantCategorySample;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /**
+     * 가맹점 분류기 학습 샘플 조회 (가맹점 이름·카테고리 조합별 1건, 최근 거래 우선, 임시 카테고리인 분류 대기·분류 실패 거래 제외)
+     * @param pageable 최대 조회 건수
+     * @return 가맹점 이름, 카테고리 식별자 List
+     */
+    @Query("""
+        SELECT new com.budget.ai.transaction.dto.MerchantCategorySample(t.merchantName, t.category.id)
+        FROM Transaction t
+        WHERE t.categorizationStatus = com.budget.ai.transaction.CategorizationStatus.COMPLETED
+        GROUP BY t.merchantName, t.category.id
+        ORDER BY MAX(t.id) DESC
+    """)
+    List<MerchantCategorySample> findMerchantCategorySamples(Pageable pageable);
 }
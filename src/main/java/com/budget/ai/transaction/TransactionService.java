@@ -2,39 +2,38 @@ package com.budget.ai.transaction;
 
 import com.budget.ai.card.Card;
 import com.budget.ai.card.CardRepository;
-import com.budget.ai.category.Category;
-import com.budget.ai.category.CategoryRepository;
-import com.budget.ai.category.MerchantCategory;
-import com.budget.ai.category.MerchantCategoryRepository;
-import com.budget.ai.external.openai.OpenAIService;
+import com.budget.ai.category.CategoryRegistry;
+import com.budget.ai.category.MerchantCategoryMatcher;
+import com.budget.ai.category.MerchantCategoryResolver;
+import com.budget.ai.category.MerchantPatternAutomaton;
 import com.budget.ai.logging.AuditLogUtil;
 import com.budget.ai.logging.aop.OperationLog;
 import com.budget.ai.response.CustomException;
 import com.budget.ai.response.ErrorCode;
 import com.budget.ai.transaction.dto.SumCategoryTransaction;
+import com.budget.ai.transaction.dto.TransactionKey;
+import com.budget.ai.transaction.dto.TransactionRow;
 import com.budget.ai.transaction.dto.request.TransactionQueryRequest;
 import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
 import com.budget.ai.transaction.dto.response.ExternalTransactionResponse;
 import com.budget.ai.transaction.dto.response.SumCategoryTransactionResponse;
 import com.budget.ai.transaction.dto.response.TransactionResponse;
-import com.budget.ai.user.User;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
 import com.budget.ai.user.UserRepository;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.*;
 import java.util.*;
-import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -43,34 +42,77 @@ import java.util.stream.Collectors;
 @Service
 public class TransactionService {
 
+    /** 분류 대기 거래에 임시로 지정하는 카테고리 코드 */
+    private static final String PROVISIONAL_CATEGORY_CODE = "ETC";
+
     private final UserRepository userRepository;
     private final CardRepository cardRepository;
-    private final MerchantCategoryRepository merchantCategoryRepository;
-    private final CategoryRepository categoryRepository;
-    private final TransactionRepository transactionRepository;
+    private final MerchantCategoryMatcher merchantCategoryMatcher;
+    private final MerchantCategoryResolver merchantCategoryResolver;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionBulkWriter transactionBulkWriter;
+    private final CardSyncCursorRepository cardSyncCursorRepository;
     private final TransactionQueryRepository transactionQueryRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionCacheGeneration transactionCacheGeneration;
+    private final SyncSingleFlight syncSingleFlight;
+
+    private final CardTransactionClient cardTransactionClient;
+
+    /** 동기화 쓰기 트랜잭션 (묶음 저장·커서 전진마다 짧게 사용) */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 동기화 읽기 트랜잭션 (카드·커서·저장된 거래 키 조회) */
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /** 카드 거래내역 API 동시 호출 수 */
+    private final int cardConcurrency;
+
+    /** 스트리밍으로 받은 거래를 분류·저장하는 묶음 크기 */
+    private final int streamBatchSize;
 
-    private final WebClient webClient;
+    /** 카드별 거래내역 조회 실패 시 처리 정책 */
+    private final SyncFailurePolicy failurePolicy;
 
-    private final OpenAIService openAIService;
+    /** 증분 동기화 시 커서보다 앞당겨 다시 조회하는 구간 (늦게 도착한 거래 대비) */
+    private final Duration incrementalOverlap;
+
+    /** 미분류 가맹점 OpenAI 분류를 백그라운드로 미룰지 여부 */
+    private final boolean deferredCategorization;
 
     public TransactionService(UserRepository userRepository, CardRepository cardRepository,
-                              MerchantCategoryRepository merchantCategoryRepository,
-                              CategoryRepository categoryRepository, TransactionRepository transactionRepository,
+                              MerchantCategoryMatcher merchantCategoryMatcher,
+                              MerchantCategoryResolver merchantCategoryResolver,
+                              CategoryRegistry categoryRegistry, TransactionBulkWriter transactionBulkWriter,
+                              CardSyncCursorRepository cardSyncCursorRepository,
                               TransactionQueryRepository transactionQueryRepository,
-                              RedisTemplate<String, Object> redisTemplate,
-                              @Qualifier("serviceWebClient") WebClient webClient,
-                              OpenAIService openAIService) {
+                              TransactionCacheGeneration transactionCacheGeneration,
+                              SyncSingleFlight syncSingleFlight,
+                              CardTransactionClient cardTransactionClient,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${transaction.sync.card-concurrency:4}") int cardConcurrency,
+                              @Value("${transaction.sync.stream-batch-size:200}") int streamBatchSize,
+                              @Value("${transaction.sync.failure-policy:FAIL_FAST}") SyncFailurePolicy failurePolicy,
+                              @Value("${transaction.sync.incremental-overlap-minutes:10}") long incrementalOverlapMinutes,
+                              @Value("${transaction.sync.deferred-categorization:true}") boolean deferredCategorization) {
         this.userRepository = userRepository;
         this.cardRepository = cardRepository;
-        this.merchantCategoryRepository = merchantCategoryRepository;
-        this.categoryRepository = categoryRepository;
-        this.transactionRepository = transactionRepository;
+        this.merchantCategoryMatcher = merchantCategoryMatcher;
+        this.merchantCategoryResolver = merchantCategoryResolver;
+        this.categoryRegistry = categoryRegistry;
+        this.transactionBulkWriter = transactionBulkWriter;
+        this.cardSyncCursorRepository = cardSyncCursorRepository;
         this.transactionQueryRepository = transactionQueryRepository;
-        this.redisTemplate = redisTemplate;
-        this.webClient = webClient;
-        this.openAIService = openAIService;
+        this.transactionCacheGeneration = transactionCacheGeneration;
+        this.syncSingleFlight = syncSingleFlight;
+        this.cardTransactionClient = cardTransactionClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.cardConcurrency = cardConcurrency;
+        this.streamBatchSize = streamBatchSize;
+        this.failurePolicy = failurePolicy;
+        this.incrementalOverlap = Duration.ofMinutes(incrementalOverlapMinutes);
+        this.deferredCategorization = deferredCategorization;
     }
 
     /**
@@ -82,7 +124,7 @@ public class TransactionService {
      */
     @Cacheable(
             value = "sumCategoryTransaction",
-            key = "#userId + ':' + #startDate.toString() + ':' + #endDate.toString()"
+            key = "#userId + ':' + @transactionCacheGeneration.current(#userId) + ':' + #startDate.toString() + ':' + #endDate.toString()"
     )
     @Transactional(readOnly = true)
     @OperationLog(eventName = "카테고리별 거래 내역 통계 조회")
@@ -144,91 +186,134 @@ public class TransactionService {
 
     /**
      * 거래내역 동기화
-     * @param userId  로그인한 사용자 ID
-     * @param request 동기화 시작 날짜, 종료 날짜
+     * <p>
+     *     카드별 거래내역 API는 최대 cardConcurrency 개까지 동시에 스트리밍으로 받고, streamBatchSize 건씩 묶어 도착 순서대로 처리한다.
+     *     묶음마다 중복 제거·매칭 후 매칭되지 않은 가맹점은 학습된 분류 결과, 로컬 분류기 순으로 지정하고,
+     *     남은 가맹점만 OpenAI API로 한 번에 분류해 기록한 뒤 바로 저장하므로 메모리 사용량은 묶음 크기에 비례한다.
+     *     deferredCategorization 이면 남은 가맹점은 OpenAI를 호출하지 않고 임시 카테고리(기타)·분류 대기로 저장하며,
+     *     {@link PendingCategorizationWorker} 가 백그라운드에서 분류해 갱신한다.
+     *     INCREMENTAL 방식이면 카드별 커서(마지막 저장 거래 시각)에서 overlap 만큼 앞당긴 시점부터만 조회하고,
+     *     커서는 카드 조회가 끝까지 성공하고 그 카드의 묶음이 모두 커밋된 뒤에 전진한다.
+     * </p>
+     * <p>
+     *     메서드 전체를 트랜잭션으로 묶지 않는다. 카드 API 스트리밍과 OpenAI 분류는 커넥션 없이 진행하고,
+     *     조회와 묶음 저장·커서 전진만 각각 짧은 트랜잭션으로 실행해 원격 호출을 기다리는 동안 커넥션을 점유하지 않는다.
+     *     묶음 저장 후 다음 단계에서 실패하면 이미 커밋된 묶음은 남지만, 커서가 전진하지 않으므로 다음 동기화에서 다시 조회되고
+     *     중복은 INSERT IGNORE와 중복 제거 단계에서 걸러진다. 트랜잭션 점유 시간 합계는 감사 로그 메시지에 남긴다.
+     * </p>
+     * <p>
+     *     같은 회원·같은 조건의 동기화가 이미 진행 중이면 (다른 서버 포함) 새로 실행하지 않고 그 결과를 함께 반환한다.
+     *     이때 listener는 호출되지 않는다.
+     * </p>
+     * @param userId   로그인한 사용자 ID
+     * @param request  동기화 시작 날짜, 종료 날짜
+     * @param listener 카드별 진행 상황 수신 (비동기 작업 상태 기록용, 없으면 {@link SyncProgressListener#NONE})
+     * @return 동기화 결과 (저장·중복·AI 분류 건수, 조회 실패로 건너뛴 카드 포함)
      */
-    @Transactional
     @OperationLog(eventName = "거래 내역 동기화")
-    public void syncTransaction(Long userId, TransactionSyncRequest request) {
+    public TransactionSyncResponse syncTransaction(Long userId, TransactionSyncRequest request, SyncProgressListener listener) {
+        return syncSingleFlight.execute(userId, request, () -> runSync(userId, request, listener));
+    }
+
+    private TransactionSyncResponse runSync(Long userId, TransactionSyncRequest request, SyncProgressListener listener) {
         boolean success = false;
+        // 커밋된 묶음에 새로 저장한 거래가 있는지 (중간에 실패해도 통계 캐시 무효화)
+        boolean written = false;
         String message = null;
+        TransactionTimer transactionTimer = new TransactionTimer();
 
         try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            OffsetDateTime startDate = request.startDate().atStartOfDay().atOffset(ZoneOffset.UTC);
+            OffsetDateTime endDate = request.endDate().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
 
-            // 1. 보유한 카드 목록 조회
-            List<Card> cardList = cardRepository.findAllByUserId(userId);
+            // 1. 보유한 카드 목록과 카드별 조회 시작 시각 조회 (읽기 트랜잭션, 원격 호출 전에 종료)
+            SyncTarget target = transactionTimer.time(() -> readOnlyTransactionTemplate.execute(status -> {
+                if (!userRepository.existsById(userId)) {
+                    throw new CustomException(ErrorCode.USER_NOT_FOUND);
+                }
 
-            // 1-1. 카드 목록이 없으면 return
-            if (cardList.isEmpty()) {
-                return;
-            }
+                List<Card> cards = cardRepository.findAllByUserId(userId);
+
+                // 1-1. 카드별 조회 시작 시각 (INCREMENTAL: 커서 - overlap, 요청 시작 날짜보다 앞서지 않음)
+                return new SyncTarget(cards, resolveStartDates(cards, startDate, request.syncMode()));
+            }));
 
-            for (Card card : cardList) {
-                // 2. 카드 거래내역 조회
-                OffsetDateTime startDate = request.startDate().atStartOfDay().atOffset(ZoneOffset.UTC);
-                OffsetDateTime endDate = request.endDate().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+            List<Card> cardList = target.cardList();
+            Map<Long, OffsetDateTime> startDateByCard = target.startDateByCard();
 
-                // 2-2. 카드 거래내역 API 호출
-                ExternalTransactionResponse response = callCardTransactionAPI(card.getCardNumber(), startDate, endDate);
+            // 1-2. 카드 목록이 없으면 return
+            if (cardList.isEmpty()) {
+                success = true;
+                return new TransactionSyncResponse(0, 0, 0, 0, List.of());
+            }
 
-                // 3. 거래별 카테고리 매핑 및 Transaction 생성
-                List<Transaction> transactionList = new ArrayList<>();
+            listener.onStarted(cardList.stream().map(Card::getId).toList());
+
+            int syncedCardCount = 0;
+            BatchResult total = BatchResult.empty();
+            List<TransactionSyncResponse.FailedCard> failedCardList = new ArrayList<>();
+            Map<Long, Set<TransactionKey>> savedKeysByCard = new HashMap<>();
+            Map<Long, TransactionKey> latestKeyByCard = new HashMap<>();
+            Map<Long, Integer> fetchedCountByCard = new HashMap<>();
+
+            // 2. 카드 거래내역 API 병렬 스트리밍 호출 (묶음이 도착하는 순서대로 처리, 커넥션 점유 없음)
+            for (CardBatch batch : fetchCardBatches(cardList, startDateByCard, endDate).toIterable(cardConcurrency)) {
+                Long cardId = batch.card().getId();
+
+                // 2-1. 조회 실패한 카드는 건너뛰고 결과에 포함 (이미 저장한 묶음은 유지, 커서는 전진하지 않음)
+                if (batch.errorCode() != null) {
+                    savedKeysByCard.remove(cardId);
+                    latestKeyByCard.remove(cardId);
+                    failedCardList.add(new TransactionSyncResponse.FailedCard(cardId, batch.errorCode()));
+                    listener.onCardFetched(cardId, fetchedCountByCard.getOrDefault(cardId, 0), batch.errorCode());
+                    continue;
+                }
 
-                for (ExternalTransactionResponse.TransactionInfo info : response.cardTransactionList()) {
-                    // 3-1. 이미 저장된 데이터는 pass
-                    boolean exists = transactionQueryRepository.existsTransaction(card.getId(), info.merchantId(), info.transactionAt().toLocalDateTime());
+                // 2-2. 카드 조회가 끝까지 성공하면 커서 전진 (카드의 묶음이 모두 커밋된 뒤 별도 트랜잭션)
+                if (batch.completed()) {
+                    syncedCardCount++;
+                    savedKeysByCard.remove(cardId);
 
-                    if (exists) {
-                        continue;
+                    TransactionKey latestKey = latestKeyByCard.remove(cardId);
+                    if (latestKey != null) {
+                        transactionTimer.time(() -> transactionTemplate.execute(status ->
+                                cardSyncCursorRepository.advance(cardId, latestKey.transactionAt(), latestKey.merchantId())));
                     }
 
-                    Optional<MerchantCategory> mcOpt = merchantCategoryRepository.findByMerchantNameLike(info.merchantName());
-                    // 3-2. 가맹점에 대한 카테고리가 이미 존재하는 경우 카테고리 지정
-                    Category category = mcOpt.map(MerchantCategory::getCategory)
-                            .orElseGet(() -> {
-                                // 3-3. 가맹점에 대한 카테고리가 존재하지 않는 경우 OpenAI API 호출하여 카테고리 지정
-                                String code = openAIService.chooseCategory(info.merchantName());
-
-                                return categoryRepository.findByCode(code)
-                                        .orElseThrow(() -> new CustomException(ErrorCode.API_CALL_WRONG_ANSWER));
-                            });
-
-                    // 4. 거래내역 생성
-                    Transaction transaction = Transaction.builder()
-                            .user(user)
-                            .card(card)
-                            .category(category)
-                            .merchantId(info.merchantId())
-                            .originalMerchantId(info.originalMerchantId())
-                            .amount(info.amount())
-                            .merchantName(info.merchantName())
-                            .merchantAddress(info.merchantAddress())
-                            .transactionAt(info.transactionAt()
-                                    .withOffsetSameInstant(ZoneOffset.UTC)
-                                    .toLocalDateTime())
-                            .transactionStatus(TransactionStatus.valueOf(info.cardTransactionStatus()))
-                            .build();
-
-                    transactionList.add(transaction);
+                    listener.onCardFetched(cardId, fetchedCountByCard.getOrDefault(cardId, 0), null);
+                    continue;
                 }
 
-                // 5. 카드별 거래내역 저장
-                transactionRepository.saveAll(transactionList);
-            }
+                // 3. 카드·기간 내 이미 저장된 거래 키는 카드별 첫 묶음에서 한 번만 조회
+                Set<TransactionKey> savedKeys = savedKeysByCard.computeIfAbsent(cardId, key ->
+                        transactionTimer.time(() -> readOnlyTransactionTemplate.execute(status ->
+                                transactionQueryRepository.findTransactionKeys(
+                                        key, startDateByCard.get(key).toLocalDateTime(), endDate.toLocalDateTime()))));
 
-            // 6. 카테고리별 카드 내역 통계 캐싱 무효화
-            Set<String> keys = redisTemplate.keys("sumCategoryTransaction:" + userId + ":*");
+                fetchedCountByCard.merge(cardId, batch.transactionList().size(), Integer::sum);
 
-            if (!keys.isEmpty()) {
-                redisTemplate.delete(keys);
+                // 4. 묶음 단위 분류 (커넥션 없이) 후 저장 (짧은 쓰기 트랜잭션)
+                BatchResult batchResult = writeBatch(userId, cardId, batch.transactionList(), savedKeys, latestKeyByCard, transactionTimer);
+                written |= batchResult.insertedCount() > 0;
+                total = total.plus(batchResult);
             }
 
             success = true;
-            message = "거래 내역 동기화 완료";
+            message = failedCardList.isEmpty()
+                    ? "거래 내역 동기화 완료"
+                    : "거래 내역 동기화 완료 (실패 카드 " + failedCardList.size() + "건 제외)";
+            message += " [" + transactionTimer.summary() + "]";
+
+            return new TransactionSyncResponse(
+                    syncedCardCount,
+                    total.insertedCount(),
+                    total.skippedCount(),
+                    total.classifiedCount(),
+                    failedCardList
+            );
         } catch (CustomException exception) {
-            message = "ErrorCode: " + exception.getErrorCode().getCode() + ", Message: " + exception.getErrorCode().getMessage();
+            message = "ErrorCode: " + exception.getErrorCode().getCode() + ", Message: " + exception.getErrorCode().getMessage()
+                    + " [" + transactionTimer.summary() + "]";
 
             throw exception;
         } finally {
@@ -243,28 +328,273 @@ public class TransactionService {
                     message,
                     success
             );
+
+            // 5. 카테고리별 카드 내역 통계 캐시 세대 증가 (이전 세대 키는 TTL로 만료)
+            if (written) {
+                transactionCacheGeneration.bump(userId);
+            }
+        }
+
+    }
+
+    /**
+     * 거래 묶음 분류·저장
+     * @param userId          로그인한 사용자 ID
+     * @param cardId          카드 ID
+     * @param transactionList 카드사 거래 묶음
+     * @param savedKeys       카드에 이미 저장된 거래 키 (이번 묶음 키가 추가됨)
+     * @param latestKeyByCard 카드별 가장 최근 거래 (커서 후보, 이번 묶음으로 갱신됨)
+     * @param transactionTimer 동기화 트랜잭션 점유 시간 측정
+     * @return 저장·중복·AI 분류 건수
+     */
+    private BatchResult writeBatch(Long userId, Long cardId, List<ExternalTransactionResponse.TransactionInfo> transactionList,
+                                   Set<TransactionKey> savedKeys, Map<Long, TransactionKey> latestKeyByCard,
+                                   TransactionTimer transactionTimer) {
+        int duplicateCount = 0;
+        List<PendingTransaction> pendingList = new ArrayList<>(transactionList.size());
+        Set<String> unknownMerchantNames = new LinkedHashSet<>();
+
+        for (ExternalTransactionResponse.TransactionInfo info : transactionList) {
+            LocalDateTime transactionAt = info.transactionAt()
+                    .withOffsetSameInstant(ZoneOffset.UTC)
+                    .toLocalDateTime();
+            TransactionKey key = new TransactionKey(info.merchantId(), transactionAt);
+
+            // 1. 카드별 가장 최근 거래를 커서 후보로 기록
+            latestKeyByCard.merge(cardId, key,
+                    (current, candidate) -> candidate.transactionAt().isAfter(current.transactionAt()) ? candidate : current);
+
+            // 2. 이미 저장되었거나 같은 응답 안에서 중복된 데이터는 pass
+            if (!savedKeys.add(key)) {
+                duplicateCount++;
+                continue;
+            }
+
+            // 3. 가맹점에 대한 카테고리가 이미 존재하는 경우 카테고리 지정 (메모리 매칭, DB 조회 없음)
+            Long categoryId = merchantCategoryMatcher.match(info.merchantName())
+                    .map(MerchantPatternAutomaton.Entry::categoryId)
+                    .orElse(null);
+
+            // 3-1. 매칭되지 않은 가맹점은 모아서 한 번에 분류
+            if (categoryId == null) {
+                unknownMerchantNames.add(info.merchantName());
+            }
+
+            pendingList.add(new PendingTransaction(info, transactionAt, categoryId));
+        }
+
+        // 4. 매칭되지 않은 가맹점은 학습된 분류 결과, 로컬 분류기 순으로 지정 (원격 호출 없음)
+        MerchantCategoryResolver.LocalResolution resolution = merchantCategoryResolver.resolveLocally(unknownMerchantNames);
+
+        // 4-1. 남은 가맹점은 분류 대기로 미루거나 OpenAI API 일괄 호출로 지정
+        // OpenAI 를 사용할 수 없어 임시 카테고리로 채워진 가맹점도 분류 대기로 저장
+        MerchantCategoryResolver.AIResolution aiResolution = deferredCategorization
+                ? new MerchantCategoryResolver.AIResolution(Map.of(), false)
+                : merchantCategoryResolver.classifyByAI(resolution.unresolvedNames(), resolution.predictionByName());
+        Long provisionalCategoryId = deferredCategorization && !resolution.unresolvedNames().isEmpty()
+                ? categoryRegistry.findByCode(PROVISIONAL_CATEGORY_CODE)
+                        .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND))
+                        .id()
+                : null;
+
+        // 5. 거래내역 생성 (엔티티 없이 식별자만 사용)
+        List<TransactionRow> rowList = new ArrayList<>(pendingList.size());
+
+        for (PendingTransaction pending : pendingList) {
+            ExternalTransactionResponse.TransactionInfo info = pending.info();
+            CategorizationStatus categorizationStatus = CategorizationStatus.COMPLETED;
+
+            Long categoryId = pending.categoryId();
+            if (categoryId == null) {
+                categoryId = resolution.categoryIds().get(info.merchantName());
+            }
+
+            if (categoryId == null) {
+                categoryId = aiResolution.categoryIds().get(info.merchantName());
+
+                if (categoryId != null && aiResolution.provisional()) {
+                    categorizationStatus = CategorizationStatus.PENDING;
+                }
+            }
+
+            if (categoryId == null && provisionalCategoryId != null) {
+                categoryId = provisionalCategoryId;
+                categorizationStatus = CategorizationStatus.PENDING;
+            }
+
+            if (categoryId == null) {
+                throw new CustomException(ErrorCode.API_CALL_WRONG_ANSWER);
+            }
+
+            rowList.add(new TransactionRow(
+                    userId,
+                    cardId,
+                    categoryId,
+                    categorizationStatus,
+                    info.merchantId(),
+                    info.originalMerchantId(),
+                    info.amount(),
+                    info.merchantName(),
+                    info.merchantAddress(),
+                    pending.transactionAt(),
+                    TransactionStatus.valueOf(info.cardTransactionStatus())
+            ));
+        }
+
+        // 6. 다중 행 INSERT IGNORE로 일괄 저장 (묶음마다 짧은 쓰기 트랜잭션, 동시 동기화와 겹친 행은 건너뜀)
+        TransactionBulkWriter.WriteResult writeResult = transactionTimer.time(() -> transactionTemplate.execute(status ->
+                transactionBulkWriter.insertIgnore(rowList)));
+
+        // 임시 카테고리(기타)로 대체한 가맹점은 AI 분류 수에서 제외
+        int aiCategorizedCount = aiResolution.provisional() ? 0 : aiResolution.categoryIds().size();
+
+        return new BatchResult(writeResult.insertedCount(), duplicateCount + writeResult.skippedCount(), aiCategorizedCount);
+    }
+
+    /**
+     * 카드별 거래내역 API 병렬 스트리밍 호출
+     * <p>
+     *     카드마다 거래 묶음을 보낸 뒤 완료 표시를 보낸다.
+     *     FAIL_FAST 정책이면 첫 실패가 그대로 전파되고, SKIP_CARD 정책이면 실패한 카드를 오류 코드와 함께 보낸다.
+     * </p>
+     * @param cardList        거래내역을 조회할 카드 목록
+     * @param startDateByCard 카드별 조회 시작 시각
+     * @param endDate         조회 종료 시각
+     * @return 도착한 순서대로 발행되는 카드별 거래 묶음
+     */
+    private Flux<CardBatch> fetchCardBatches(List<Card> cardList, Map<Long, OffsetDateTime> startDateByCard,
+                                             OffsetDateTime endDate) {
+        return Flux.fromIterable(cardList)
+                .flatMap(card -> cardTransactionClient.streamTransactions(card.getCardCompanyType(), card.getCardNumber(),
+                                        startDateByCard.get(card.getId()), endDate)
+                                .buffer(streamBatchSize)
+                                .map(transactionList -> CardBatch.of(card, transactionList))
+                                .concatWith(Mono.fromSupplier(() -> CardBatch.completed(card)))
+                                .onErrorResume(
+                                        throwable -> failurePolicy == SyncFailurePolicy.SKIP_CARD,
+                                        throwable -> Mono.just(CardBatch.failure(card, throwable))
+                                ),
+                        cardConcurrency);
+    }
+
+    /**
+     * 카드별 조회 시작 시각 계산
+     * @param cardList  동기화할 카드 목록
+     * @param startDate 요청 시작 시각
+     * @param syncMode  동기화 방식
+     * @return 카드 ID → 조회 시작 시각 (커서가 없는 카드는 요청 시작 시각)
+     */
+    private Map<Long, OffsetDateTime> resolveStartDates(List<Card> cardList, OffsetDateTime startDate, SyncMode syncMode) {
+        Map<Long, OffsetDateTime> startDateByCard = new HashMap<>();
+        cardList.forEach(card -> startDateByCard.put(card.getId(), startDate));
+
+        if (syncMode != SyncMode.INCREMENTAL) {
+            return startDateByCard;
+        }
+
+        for (CardSyncCursor cursor : cardSyncCursorRepository.findAllByCardIdIn(startDateByCard.keySet())) {
+            OffsetDateTime cursorStart = cursor.getLastTransactionAt()
+                    .minus(incrementalOverlap)
+                    .atOffset(ZoneOffset.UTC);
+
+            if (cursorStart.isAfter(startDate)) {
+                startDateByCard.put(cursor.getCardId(), cursorStart);
+            }
         }
 
+        return startDateByCard;
+    }
+
+    /**
+     * 동기화 대상
+     * @param cardList        보유한 카드 목록
+     * @param startDateByCard 카드별 조회 시작 시각
+     */
+    private record SyncTarget(List<Card> cardList, Map<Long, OffsetDateTime> startDateByCard) {
     }
 
-    private ExternalTransactionResponse callCardTransactionAPI(String cardNumber, OffsetDateTime startDate, OffsetDateTime endDate) {
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/outer/transaction")
-                        .queryParam("startDate", startDate.toString())
-                        .queryParam("endDate", endDate.toString())
-                        .queryParam("cardNumber", cardNumber)
-                        .build())
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, resp ->
-                        Mono.error(new CustomException(ErrorCode.API_CALL_CLIENT_ERROR)))
-                .onStatus(HttpStatusCode::is5xxServerError, resp ->
-                        Mono.error(new CustomException(ErrorCode.API_CALL_SERVER_ERROR)))
-                .bodyToMono(ExternalTransactionResponse.class)
-                .timeout(Duration.ofSeconds(3))
-                .onErrorMap(TimeoutException.class, ex -> new CustomException(ErrorCode.API_CALL_TIMEOUT))
-                .retryWhen(Retry.fixedDelay(3, Duration.ofMillis(500))
-                        .filter(throwable -> throwable instanceof IOException || throwable instanceof TimeoutException))
-                .block();
+    /**
+     * 동기화 한 번의 트랜잭션 (커넥션 점유) 횟수와 시간 합계
+     * <p>
+     *     트랜잭션 시작부터 커밋까지를 재며, 원격 호출 대기는 포함되지 않는다.
+     * </p>
+     */
+    private static final class TransactionTimer {
+
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+
+        <T> T time(Supplier<T> action) {
+            long start = System.nanoTime();
+
+            try {
+                return action.get();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                count++;
+                totalNanos += elapsed;
+                maxNanos = Math.max(maxNanos, elapsed);
+            }
+        }
+
+        String summary() {
+            return "DB 트랜잭션 " + count + "회, 점유 합계 " + Duration.ofNanos(totalNanos).toMillis()
+                    + "ms, 최대 " + Duration.ofNanos(maxNanos).toMillis() + "ms";
+        }
+    }
+
+    /**
+     * 카테고리 지정 전 거래
+     * @param info          카드사 거래 정보
+     * @param transactionAt 거래 시각 (UTC)
+     * @param categoryId    매칭된 카테고리 식별자 (매칭 실패 시 null)
+     */
+    private record PendingTransaction(ExternalTransactionResponse.TransactionInfo info, LocalDateTime transactionAt, Long categoryId) {
+    }
+
+    /**
+     * 묶음 처리 건수
+     * @param insertedCount   저장 건수
+     * @param skippedCount    중복으로 건너뛴 건수
+     * @param classifiedCount AI로 분류한 가맹점 수
+     */
+    private record BatchResult(int insertedCount, int skippedCount, int classifiedCount) {
+
+        static BatchResult empty() {
+            return new BatchResult(0, 0, 0);
+        }
+
+        BatchResult plus(BatchResult other) {
+            return new BatchResult(insertedCount + other.insertedCount, skippedCount + other.skippedCount,
+                    classifiedCount + other.classifiedCount);
+        }
+    }
+
+    /**
+     * 카드별 거래 묶음
+     * @param card            조회한 카드
+     * @param transactionList 거래 묶음 (완료·실패 표시면 빈 목록)
+     * @param completed       카드 조회 완료 표시 여부
+     * @param errorCode       실패 시 오류 코드 (그 외 null)
+     */
+    private record CardBatch(Card card, List<ExternalTransactionResponse.TransactionInfo> transactionList,
+                             boolean completed, String errorCode) {
+
+        static CardBatch of(Card card, List<ExternalTransactionResponse.TransactionInfo> transactionList) {
+            return new CardBatch(card, transactionList, false, null);
+        }
+
+        static CardBatch completed(Card card) {
+            return new CardBatch(card, List.of(), true, null);
+        }
+
+        static CardBatch failure(Card card, Throwable throwable) {
+            String errorCode = throwable instanceof CustomException ce
+                    ? ce.getErrorCode().getCode()
+                    : ErrorCode.API_CALL_SERVER_ERROR.getCode();
+
+            return new CardBatch(card, List.of(), false, errorCode);
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.budget.ai.transaction.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class TransactionSyncScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job syncTransactionJob;
+    private final int lookbackDays;
+
+    public TransactionSyncScheduler(JobLauncher jobLauncher,
+                                    @Qualifier("syncTransactionJob") Job syncTransactionJob,
+                                    @Value("${transaction.sync.batch.lookback-days:7}") int lookbackDays) {
+        this.jobLauncher = jobLauncher;
+        this.syncTransactionJob = syncTransactionJob;
+        this.lookbackDays = lookbackDays;
+    }
+
+    /**
+     * 전체 회원 카드 거래내역 증분 동기화 (기본 매시 정각)
+     * <p>
+     *     카드별 커서가 있으면 커서 이후만 조회하고, 없으면 lookback-days 전부터 조회한다.
+     * </p>
+     * <p>
+     *     여러 서버가 같은 시각에 실행해도 시 단위 실행 슬롯이 같으면 같은 JobInstance 가 되어,
+     *     공유 JobRepository 에서 먼저 시작한 서버만 실행하고 나머지는 건너뛴다. (cron 은 1시간에 한 번 이하로 설정)
+     * </p>
+     */
+    @Scheduled(cron = "${transaction.sync.batch.cron:0 0 * * * ?}", zone = "UTC")
+    public void runSyncTransactionJob() throws JobParametersInvalidException, JobRestartException {
+        LocalDateTime scheduledAt = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+        LocalDate endDate = scheduledAt.toLocalDate();
+        LocalDate startDate = endDate.minusDays(lookbackDays);
+
+        Map<String, JobParameter<?>> param = new HashMap<>();
+        param.put("startDate", new JobParameter(startDate.toString(), String.class));
+        param.put("endDate", new JobParameter(endDate.toString(), String.class));
+        // 같은 날 여러 번 실행되므로 실행 슬롯(시 단위)으로 JobInstance 구분
+        param.put("scheduledAt", new JobParameter(scheduledAt.toString(), String.class));
+
+        JobParameters jobParameters = new JobParameters(param);
+
+        try {
+            jobLauncher.run(syncTransactionJob, jobParameters);
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException e) {
+            log.info("다른 서버가 이미 실행한 동기화 슬롯 건너뜀 - scheduledAt={}", scheduledAt);
+        }
+    }
+}
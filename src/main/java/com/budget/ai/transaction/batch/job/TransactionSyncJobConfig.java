@@ -0,0 +1,114 @@
+package com.budget.ai.transaction.batch.job;
+
+import com.budget.ai.report.batch.listener.JobLoggerListener;
+import com.budget.ai.report.batch.listener.StepLoggerListener;
+import com.budget.ai.response.CustomException;
+import com.budget.ai.transaction.batch.listener.SyncPartitionListener;
+import com.budget.ai.transaction.batch.partitioner.UserIdRangePartitioner;
+import com.budget.ai.transaction.batch.processor.SyncUserProcessor;
+import com.budget.ai.transaction.batch.reader.SyncUserReader;
+import com.budget.ai.transaction.batch.writer.SyncResultWriter;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 전체 회원 카드 거래내역 동기화 배치
+ * <p>
+ *     카드를 보유한 회원 ID 범위를 grid-size 개로 나누고, 전용 스레드 풀에서 파티션별로 동기화한다.
+ *     회원별 저장은 동기화 처리 안에서 커밋되므로 worker chunk 는 DB 트랜잭션을 잡지 않는다.
+ * </p>
+ */
+@Configuration
+@EnableBatchProcessing
+public class TransactionSyncJobConfig {
+
+    @Bean
+    @Qualifier("syncTransactionJob")
+    public Job syncTransactionJob(JobRepository jobRepository, Step syncTransactionManagerStep, JobLoggerListener jobLoggerListener) {
+        return new JobBuilder("syncTransactionJob", jobRepository)
+                .listener(jobLoggerListener)
+                .start(syncTransactionManagerStep)
+                .build();
+    }
+
+    @Bean
+    @Qualifier("syncTransactionManagerStep")
+    public Step syncTransactionManagerStep(
+            JobRepository jobRepository,
+            UserIdRangePartitioner userIdRangePartitioner,
+            TaskExecutorPartitionHandler syncTransactionPartitionHandler,
+            StepLoggerListener stepLoggerListener
+    ) {
+        return new StepBuilder("syncTransactionManagerStep", jobRepository)
+                .partitioner("syncTransactionWorkerStep", userIdRangePartitioner)
+                .partitionHandler(syncTransactionPartitionHandler)
+                .listener(stepLoggerListener)
+                .build();
+    }
+
+    @Bean
+    public TaskExecutorPartitionHandler syncTransactionPartitionHandler(
+            Step syncTransactionWorkerStep,
+            @Qualifier("syncPartitionExecutor") ThreadPoolTaskExecutor syncPartitionExecutor,
+            @Value("${transaction.sync.batch.grid-size:4}") int gridSize
+    ) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(syncTransactionWorkerStep);
+        partitionHandler.setTaskExecutor(syncPartitionExecutor);
+        partitionHandler.setGridSize(gridSize);
+        return partitionHandler;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor syncPartitionExecutor(@Value("${transaction.sync.batch.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("sync-partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    @Qualifier("syncTransactionWorkerStep")
+    public Step syncTransactionWorkerStep(
+            JobRepository jobRepository,
+            SyncUserReader syncUserReader,
+            SyncUserProcessor syncUserProcessor,
+            SyncResultWriter syncResultWriter,
+            SyncPartitionListener syncPartitionListener,
+            @Value("${transaction.sync.batch.chunk-size:10}") int chunkSize,
+            @Value("${transaction.sync.batch.skip-limit:100}") int skipLimit
+    ) {
+        return new StepBuilder("syncTransactionWorkerStep", jobRepository)
+                // 회원별 동기화가 자체 트랜잭션으로 커밋되므로 chunk 는 커넥션을 잡지 않는다
+                .<Long, TransactionSyncResponse>chunk(chunkSize, new ResourcelessTransactionManager())
+                .reader(syncUserReader)
+                .processor(syncUserProcessor)
+                .writer(syncResultWriter)
+
+                // Skip
+                .faultTolerant()
+                .processorNonTransactional() // Skip 후 chunk 재처리 시 이미 동기화한 회원을 다시 호출하지 않음
+                .skipLimit(skipLimit) // 최대 skip-limit 명까지 Skip
+                .skip(CustomException.class)
+
+                // logging
+                .listener(syncPartitionListener)
+
+                .build();
+    }
+}
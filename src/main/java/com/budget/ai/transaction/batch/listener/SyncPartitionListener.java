@@ -0,0 +1,99 @@
+package com.budget.ai.transaction.batch.listener;
+
+import com.budget.ai.logging.aop.dto.OperationLogDto;
+import com.budget.ai.transaction.batch.partitioner.UserIdRangePartitioner;
+import com.budget.ai.transaction.batch.writer.SyncResultWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 거래내역 동기화 파티션별 처리량 기록
+ * <p>
+ *     파티션 범위, 처리 회원 수, 저장·중복·AI 분류 건수와 초당 처리 회원·거래 수를 남긴다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncPartitionListener implements StepExecutionListener {
+
+    private final ObjectMapper objectMapper;
+    private static final String MDC_UUID_KEY = "requestId";
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String traceId = Optional.ofNullable(MDC.get(MDC_UUID_KEY))
+                .orElse("batch-" + DateTimeFormatter.ofPattern("yyyyMMdd HH:mm:ss").format(ZonedDateTime.now()));
+
+        boolean success = stepExecution.getStatus() == BatchStatus.COMPLETED;
+
+        long duration = 0;
+        if (stepExecution.getStartTime() != null && stepExecution.getEndTime() != null) {
+            duration = Duration.between(stepExecution.getStartTime(), stepExecution.getEndTime()).toMillis();
+        } else if (stepExecution.getStartTime() != null) {
+            duration = Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis();
+        }
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        long userCount = stepExecution.getWriteCount();
+        long insertedCount = context.getLong(SyncResultWriter.INSERTED_COUNT, 0L);
+        double seconds = Math.max(duration, 1) / 1000.0;
+
+        Map<String, Object> throughput = new LinkedHashMap<>();
+        throughput.put(UserIdRangePartitioner.MIN_USER_ID, context.getLong(UserIdRangePartitioner.MIN_USER_ID, 0L));
+        throughput.put(UserIdRangePartitioner.MAX_USER_ID, context.getLong(UserIdRangePartitioner.MAX_USER_ID, 0L));
+        throughput.put("userCount", userCount);
+        throughput.put("skippedUserCount", stepExecution.getSkipCount());
+        throughput.put(SyncResultWriter.SYNCED_CARD_COUNT, context.getLong(SyncResultWriter.SYNCED_CARD_COUNT, 0L));
+        throughput.put(SyncResultWriter.FAILED_CARD_COUNT, context.getLong(SyncResultWriter.FAILED_CARD_COUNT, 0L));
+        throughput.put(SyncResultWriter.INSERTED_COUNT, insertedCount);
+        throughput.put(SyncResultWriter.SKIPPED_COUNT, context.getLong(SyncResultWriter.SKIPPED_COUNT, 0L));
+        throughput.put(SyncResultWriter.CLASSIFIED_COUNT, context.getLong(SyncResultWriter.CLASSIFIED_COUNT, 0L));
+        throughput.put("usersPerSecond", Math.round(userCount / seconds * 100) / 100.0);
+        throughput.put("insertedPerSecond", Math.round(insertedCount / seconds * 100) / 100.0);
+
+        OperationLogDto operationLogDto = success
+                ? OperationLogDto.successLog(
+                "SYNC-PARTITION-END", traceId, "system", duration,
+                this.getClass().getSimpleName(), stepExecution.getStepName(),
+                new Object[]{throughput}
+        )
+                : OperationLogDto.failureLog(
+                "SYNC-PARTITION-END", traceId, "system",
+                this.getClass().getSimpleName(), stepExecution.getStepName(),
+                new Object[]{throughput},
+                stepExecution.getStepName() + " 파티션 동기화가 실패했습니다."
+        );
+
+        if (success) log.info(serialize(operationLogDto));
+        else log.error(serialize(operationLogDto));
+
+        return stepExecution.getExitStatus();
+    }
+
+    private String serialize(OperationLogDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            log.error("Failed DTO to JSON Serialize", e);
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.budget.ai.transaction.batch.partitioner;
+
+import com.budget.ai.card.CardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카드를 보유한 회원 ID 범위를 gridSize 개 구간으로 나누는 Partitioner
+ * <p>
+ *     각 파티션 ExecutionContext 에 minUserId, maxUserId (양 끝 포함) 를 담는다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_USER_ID = "minUserId";
+    public static final String MAX_USER_ID = "maxUserId";
+
+    private final CardRepository cardRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        Long minUserId = cardRepository.findMinUserId();
+        Long maxUserId = cardRepository.findMaxUserId();
+
+        // 카드가 없으면 파티션 없이 종료
+        if (minUserId == null || maxUserId == null) {
+            return partitions;
+        }
+
+        long rangeSize = (maxUserId - minUserId) / gridSize + 1;
+        long start = minUserId;
+        int index = 0;
+
+        while (start <= maxUserId) {
+            long end = Math.min(start + rangeSize - 1, maxUserId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_USER_ID, start);
+            context.putLong(MAX_USER_ID, end);
+            partitions.put("partition" + index, context);
+
+            start = end + 1;
+            index++;
+        }
+
+        return partitions;
+    }
+}
@@ -0,0 +1,47 @@
+package com.budget.ai.transaction.batch.processor;
+
+import com.budget.ai.transaction.SyncMode;
+import com.budget.ai.transaction.SyncProgressListener;
+import com.budget.ai.transaction.TransactionService;
+import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 한 명의 전체 카드 거래내역 동기화
+ * <p>
+ *     API 동기화와 같은 수집 로직을 사용하며, 카드별 커서 이후만 조회하는 증분 방식으로 실행한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@StepScope
+public class SyncUserProcessor implements ItemProcessor<Long, TransactionSyncResponse> {
+
+    private final TransactionService transactionService;
+
+    @Value("#{jobParameters['startDate']}")
+    private String startDateStr;
+
+    @Value("#{jobParameters['endDate']}")
+    private String endDateStr;
+
+    private TransactionSyncRequest request;
+
+    @PostConstruct
+    public void init() {
+        request = new TransactionSyncRequest(LocalDate.parse(startDateStr), LocalDate.parse(endDateStr), SyncMode.INCREMENTAL);
+    }
+
+    @Override
+    public TransactionSyncResponse process(Long userId) {
+        return transactionService.syncTransaction(userId, request, SyncProgressListener.NONE);
+    }
+}
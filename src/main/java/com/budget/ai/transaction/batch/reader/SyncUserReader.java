@@ -0,0 +1,40 @@
+package com.budget.ai.transaction.batch.reader;
+
+import com.budget.ai.card.CardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 파티션 범위 안에서 카드를 보유한 회원 ID 조회
+ */
+@Component
+@RequiredArgsConstructor
+@StepScope
+public class SyncUserReader implements ItemReader<Long> {
+
+    private final CardRepository cardRepository;
+
+    @Value("#{stepExecutionContext['minUserId']}")
+    private Long minUserId;
+
+    @Value("#{stepExecutionContext['maxUserId']}")
+    private Long maxUserId;
+
+    private Iterator<Long> userIdIterator;
+
+    @Override
+    public Long read() {
+        if (userIdIterator == null) {
+            List<Long> userIds = cardRepository.findUserIdsBetween(minUserId, maxUserId);
+            userIdIterator = userIds.iterator();
+        }
+
+        return userIdIterator.hasNext() ? userIdIterator.next() : null;
+    }
+}
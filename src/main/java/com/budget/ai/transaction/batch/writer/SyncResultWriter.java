@@ -0,0 +1,43 @@
+package com.budget.ai.transaction.batch.writer;
+
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 동기화 결과를 파티션 ExecutionContext 에 누적
+ * <p>
+ *     거래내역 저장은 동기화 처리에서 끝나므로 여기서는 처리량 집계만 한다.
+ * </p>
+ */
+@Component
+public class SyncResultWriter implements ItemWriter<TransactionSyncResponse> {
+
+    public static final String SYNCED_CARD_COUNT = "syncedCardCount";
+    public static final String FAILED_CARD_COUNT = "failedCardCount";
+    public static final String INSERTED_COUNT = "insertedCount";
+    public static final String SKIPPED_COUNT = "skippedCount";
+    public static final String CLASSIFIED_COUNT = "classifiedCount";
+
+    @Override
+    public void write(Chunk<? extends TransactionSyncResponse> chunk) {
+        ExecutionContext executionContext = StepSynchronizationManager.getContext()
+                .getStepExecution()
+                .getExecutionContext();
+
+        for (TransactionSyncResponse response : chunk.getItems()) {
+            add(executionContext, SYNCED_CARD_COUNT, response.syncedCardCount());
+            add(executionContext, FAILED_CARD_COUNT, response.failedCardList().size());
+            add(executionContext, INSERTED_COUNT, response.insertedCount());
+            add(executionContext, SKIPPED_COUNT, response.skippedCount());
+            add(executionContext, CLASSIFIED_COUNT, response.classifiedCount());
+        }
+    }
+
+    private void add(ExecutionContext executionContext, String key, long value) {
+        executionContext.putLong(key, executionContext.getLong(key, 0L) + value);
+    }
+}
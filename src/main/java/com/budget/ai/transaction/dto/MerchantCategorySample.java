@@ -0,0 +1,9 @@
+package com.budget.ai.transaction.dto;
+
+/**
+ * 가맹점 분류기 학습 샘플 (이미 카테고리가 지정된 거래의 가맹점 이름)
+ * @param merchantName 가맹점 이름
+ * @param categoryId   카테고리 식별자
+ */
+public record MerchantCategorySample(String merchantName, Long categoryId) {
+}
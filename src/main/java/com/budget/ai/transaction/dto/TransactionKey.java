@@ -0,0 +1,21 @@
+package com.budget.ai.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드 내 거래 중복 판단 키 DTO
+ * <p>
+ *     uq_txn (card_id, merchant_id, transaction_at) 중 카드를 제외한 나머지 컬럼
+ * </p>
+ */
+@Schema(description = "카드 내 거래 중복 판단 키 DTO")
+public record TransactionKey(
+        @Schema(description = "카드사 거래 고유 ID")
+        String merchantId,
+
+        @Schema(description = "거래 시각 (UTC)")
+        LocalDateTime transactionAt
+) {
+}
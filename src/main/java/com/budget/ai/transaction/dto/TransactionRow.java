@@ -0,0 +1,51 @@
+package com.budget.ai.transaction.dto;
+
+import com.budget.ai.transaction.CategorizationStatus;
+import com.budget.ai.transaction.TransactionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 일괄 저장용 행 DTO
+ * <p>
+ *     엔티티 대신 식별자만 가지고 transactions 테이블에 그대로 기록한다.
+ * </p>
+ */
+@Schema(description = "거래내역 일괄 저장용 행 DTO")
+public record TransactionRow(
+        @Schema(description = "회원 고유 ID")
+        Long userId,
+
+        @Schema(description = "카드 고유 ID")
+        Long cardId,
+
+        @Schema(description = "카테고리 고유 ID")
+        Long categoryId,
+
+        @Schema(description = "카테고리 분류 상태 (PENDING이면 임시 카테고리)")
+        CategorizationStatus categorizationStatus,
+
+        @Schema(description = "카드사 거래 고유 ID")
+        String merchantId,
+
+        @Schema(description = "환불/취소 시 참조하는 카드사 거래 고유 ID")
+        String originalMerchantId,
+
+        @Schema(description = "금액")
+        BigDecimal amount,
+
+        @Schema(description = "가게명")
+        String merchantName,
+
+        @Schema(description = "가게 주소")
+        String merchantAddress,
+
+        @Schema(description = "거래 시각 (UTC)")
+        LocalDateTime transactionAt,
+
+        @Schema(description = "거래 상태")
+        TransactionStatus transactionStatus
+) {
+}
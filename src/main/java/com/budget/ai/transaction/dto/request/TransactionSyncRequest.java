@@ -1,5 +1,6 @@
 package com.budget.ai.transaction.dto.request;
 
+import com.budget.ai.transaction.SyncMode;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -20,6 +21,16 @@ public record TransactionSyncRequest(
         @Schema(description = "동기화 종료 날짜", example = "2025-03-20")
         @NotNull(message = "종료 날짜는 필수입니다.")
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
-        LocalDate endDate
+        LocalDate endDate,
+
+        @Schema(description = "동기화 방식 (기본값 FULL, INCREMENTAL이면 카드별 마지막 동기화 이후만 조회)", example = "INCREMENTAL")
+        SyncMode syncMode
 ) {
+    public TransactionSyncRequest(LocalDate startDate, LocalDate endDate) {
+        this(startDate, endDate, SyncMode.FULL);
+    }
+
+    public SyncMode syncMode() {
+        return syncMode != null ? syncMode : SyncMode.FULL;
+    }
 }
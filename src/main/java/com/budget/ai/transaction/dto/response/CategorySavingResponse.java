@@ -10,8 +10,25 @@ import java.util.List;
 @Schema(description = "카테고리별 절약 방법 조회 응답 DTO")
 public record CategorySavingResponse(
         @Schema(description = "카테고리별 절약 정보")
-        List<SavingInfo> savingInfoList
+        List<SavingInfo> savingInfoList,
+
+        @Schema(description = "OpenAI 를 사용할 수 없어 이전 추천 또는 빈 추천으로 대신했는지 여부", example = "false")
+        boolean fallback
 ) {
+        /**
+         * OpenAI 로 새로 생성한 추천
+         */
+        public static CategorySavingResponse of(List<SavingInfo> savingInfoList) {
+                return new CategorySavingResponse(savingInfoList, false);
+        }
+
+        /**
+         * OpenAI 를 사용할 수 없을 때 대신 내려주는 추천 (이전 추천이 없으면 빈 목록)
+         */
+        public static CategorySavingResponse fallbackOf(List<SavingInfo> savingInfoList) {
+                return new CategorySavingResponse(savingInfoList, true);
+        }
+
         public record SavingInfo(
                 @Schema(description = "카테고리 이름", example = "교통")
                 String categoryName,
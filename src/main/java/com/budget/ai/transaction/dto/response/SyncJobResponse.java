@@ -0,0 +1,47 @@
+package com.budget.ai.transaction.dto.response;
+
+import com.budget.ai.transaction.SyncJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 비동기 거래 내역 동기화 작업 응답 DTO
+ */
+@Schema(description = "비동기 거래 내역 동기화 작업 응답 DTO")
+public record SyncJobResponse(
+        @Schema(description = "작업 ID", example = "6f1c2b1e-8f7a-4a43-9a51-0d7a0d3c1f4e")
+        String jobId,
+
+        @Schema(description = "작업 상태", example = "RUNNING")
+        SyncJobStatus status,
+
+        @Schema(description = "카드별 진행 상황")
+        List<CardProgress> cardProgressList,
+
+        @Schema(description = "저장된 거래 수", example = "42")
+        int insertedCount,
+
+        @Schema(description = "이미 저장되어 건너뛴 거래 수", example = "3")
+        int skippedCount,
+
+        @Schema(description = "AI로 분류한 가맹점 수", example = "5")
+        int classifiedCount,
+
+        @Schema(description = "실패 시 오류 코드", example = "API_CALL_TIMEOUT")
+        String errorCode
+) {
+    public record CardProgress(
+            @Schema(description = "카드 고유 ID", example = "1")
+            Long cardId,
+
+            @Schema(description = "카드 진행 상태", example = "COMPLETED")
+            SyncJobStatus status,
+
+            @Schema(description = "조회된 거래 수", example = "12")
+            int fetchedCount,
+
+            @Schema(description = "실패 오류 코드", example = "API_CALL_TIMEOUT")
+            String errorCode
+    ) { }
+}
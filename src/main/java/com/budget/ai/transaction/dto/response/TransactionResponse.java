@@ -35,6 +35,9 @@ public record TransactionResponse(
             @Schema(description = "카테고리", example = "교통")
             String categoryName,
 
+            @Schema(description = "카테고리 분류 상태 (PENDING이면 임시 카테고리)", example = "COMPLETED")
+            String categorizationStatus,
+
             @Schema(description = "카드사 거래 고유 ID", example = "TXN123456789")
             String merchantId,
 
@@ -60,6 +63,7 @@ public record TransactionResponse(
             return new TransactionInfo(
                     transaction.getCard().getCardNumber(),
                     transaction.getCategory().getDisplayName(),
+                    transaction.getCategorizationStatus().name(),
                     transaction.getMerchantId(),
                     transaction.getOriginalMerchantId(),
                     transaction.getAmount(),
@@ -0,0 +1,34 @@
+package com.budget.ai.transaction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 거래 내역 동기화 응답 DTO
+ */
+@Schema(description = "거래 내역 동기화 응답 DTO")
+public record TransactionSyncResponse(
+        @Schema(description = "동기화 완료된 카드 수", example = "3")
+        int syncedCardCount,
+
+        @Schema(description = "저장된 거래 수", example = "42")
+        int insertedCount,
+
+        @Schema(description = "이미 저장되어 건너뛴 거래 수", example = "3")
+        int skippedCount,
+
+        @Schema(description = "AI로 분류한 가맹점 수", example = "5")
+        int classifiedCount,
+
+        @Schema(description = "조회 실패로 제외된 카드 목록")
+        List<FailedCard> failedCardList
+) {
+    public record FailedCard(
+            @Schema(description = "카드 고유 ID", example = "1")
+            Long cardId,
+
+            @Schema(description = "실패 오류 코드", example = "API_CALL_TIMEOUT")
+            String errorCode
+    ) { }
+}
@@ -0,0 +1,8 @@
+-- -----------------------------
+-- 매장-카테고리 매핑 출처 (SEED: 초기 등록 패턴, AI: AI 분류 결과)
+-- -----------------------------
+ALTER TABLE merchant_categories
+    MODIFY COLUMN merchant_name VARCHAR(255) NOT NULL,
+    ADD COLUMN source VARCHAR(20) NOT NULL DEFAULT 'SEED' AFTER merchant_name;
+
+CREATE INDEX idx_merchant_categories_source ON merchant_categories (source);
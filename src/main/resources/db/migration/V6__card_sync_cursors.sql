@@ -0,0 +1,11 @@
+-- -----------------------------
+-- 카드별 증분 동기화 커서 (마지막으로 저장한 거래 시각·거래 ID)
+-- -----------------------------
+CREATE TABLE card_sync_cursors
+(
+    card_id             BIGINT       NOT NULL PRIMARY KEY,
+    last_transaction_at DATETIME     NOT NULL,
+    last_merchant_id    VARCHAR(255) NOT NULL,
+    updated_at          TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_card_sync_cursors_cards FOREIGN KEY (card_id) REFERENCES cards(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
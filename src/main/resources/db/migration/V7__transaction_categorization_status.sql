@@ -0,0 +1,8 @@
+-- -----------------------------
+-- 거래 카테고리 분류 상태 (COMPLETED: 분류 완료, PENDING: 임시 카테고리로 저장 후 백그라운드 분류 대기)
+-- -----------------------------
+ALTER TABLE transactions
+    ADD COLUMN categorization_status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED' AFTER category_id;
+
+-- 분류 대기 가맹점 조회와 가맹점 단위 일괄 UPDATE
+CREATE INDEX idx_txn_categorization_status ON transactions (categorization_status, merchant_name);
@@ -0,0 +1,15 @@
+-- -----------------------------
+-- 가맹점 키 (지점명·매장 번호·대소문자·공백을 제거한 브랜드 단위 키)
+-- 기존 행은 merchantKeyBackfillJob 이 채우고, 이후 저장되는 행은 저장 시 채운다.
+-- -----------------------------
+ALTER TABLE merchant_categories
+    ADD COLUMN normalized_merchant_key VARCHAR(255) NULL AFTER merchant_name;
+
+ALTER TABLE transactions
+    ADD COLUMN normalized_merchant_key VARCHAR(255) NULL AFTER merchant_name;
+
+-- AI 분류 결과 가맹점 키 일치 조회
+CREATE INDEX idx_merchant_categories_key ON merchant_categories (normalized_merchant_key, source);
+
+-- 가맹점 단위 조회·집계·재분류 (키 미설정 행 backfill 조회 포함)
+CREATE INDEX idx_txn_merchant_key ON transactions (normalized_merchant_key);
@@ -137,4 +137,48 @@ class CardRepositoryTest {
             assertThat(cardList).isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 카드_보유_회원_범위_조회_테스트 {
+
+        @Test
+        void 카드_보유_회원만_범위_내_중복없이_조회() {
+            User noCardUser = userRepository.save(
+                    User.builder()
+                            .name("카드없음")
+                            .email("nocard@email.com")
+                            .password("rawPassword")
+                            .build()
+            );
+
+            User secondUser = userRepository.save(
+                    User.builder()
+                            .name("테스터2")
+                            .email("tester2@email.com")
+                            .password("rawPassword")
+                            .build()
+            );
+
+            cardRepository.saveAll(List.of(
+                    Card.builder()
+                            .cardCompanyType(CardCompanyType.SAMSUNG)
+                            .cardNumber("242424131313")
+                            .user(testUser)
+                            .build(),
+                    Card.builder()
+                            .cardCompanyType(CardCompanyType.KB)
+                            .cardNumber("575768684646")
+                            .user(secondUser)
+                            .build()
+            ));
+
+            assertThat(cardRepository.findMinUserId()).isEqualTo(testUser.getId());
+            assertThat(cardRepository.findMaxUserId()).isEqualTo(secondUser.getId());
+            assertThat(cardRepository.findUserIdsBetween(testUser.getId(), secondUser.getId()))
+                    .containsExactly(testUser.getId(), secondUser.getId())
+                    .doesNotContain(noCardUser.getId());
+            assertThat(cardRepository.findUserIdsBetween(secondUser.getId(), secondUser.getId()))
+                    .containsExactly(secondUser.getId());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.budget.ai.category;
+
+import com.budget.ai.auth.dto.response.TokenResponse;
+import com.budget.ai.card.Card;
+import com.budget.ai.card.CardCompanyType;
+import com.budget.ai.category.dto.request.MerchantRecategorizeRequest;
+import com.budget.ai.testsupport.ControllerTest;
+import com.budget.ai.testsupport.TestAuthHelper;
+import com.budget.ai.testsupport.TestDataFactory;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.CategorizationStatus;
+import com.budget.ai.transaction.TransactionBulkWriter;
+import com.budget.ai.transaction.TransactionStatus;
+import com.budget.ai.transaction.dto.TransactionRow;
+import com.budget.ai.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest
+class CategoryControllerTest {
+
+    private static final String ADMIN_KEY = "test-admin-key";
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.startRedis();
+
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.registerRedis(registry);
+        registry.add("category.registry.admin-key", () -> ADMIN_KEY);
+    }
+
+    @Autowired
+    private TestAuthHelper testAuthHelper;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = testDataFactory.createUser("테스터", "tester@email.com", "rawPassword");
+        TokenResponse tokenResponse = testAuthHelper.setLogin(user.getEmail(), "rawPassword");
+
+        accessToken = tokenResponse.accessToken();
+    }
+
+    @Nested
+    class 카테고리_레지스트리_갱신_테스트 {
+
+        @Test
+        void 관리자_키로_갱신_성공() throws Exception {
+            int categoryCount = (int) categoryRepository.count();
+
+            mockMvc.perform(post("/api/categories/refresh")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("X-Admin-Key", ADMIN_KEY))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.categoryCount").value(categoryCount));
+
+            assertThat(categoryRegistry.findAll()).hasSize(categoryCount);
+            assertThat(categoryRegistry.findByCode("CAFE"))
+                    .map(CategoryRegistry.CategoryInfo::id)
+                    .contains(categoryRepository.findByCode("CAFE").orElseThrow().getId());
+        }
+
+        @Test
+        void 관리자_키_없음_403반환() throws Exception {
+            mockMvc.perform(post("/api/categories/refresh")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        void 관리자_키_불일치_403반환() throws Exception {
+            mockMvc.perform(post("/api/categories/refresh")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("X-Admin-Key", "wrong-key"))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    class 가맹점_카테고리_일괄_재분류_테스트 {
+
+        private Long etcCategoryId;
+        private Long cafeCategoryId;
+
+        @BeforeEach
+        void setUp() {
+            etcCategoryId = categoryRepository.findByCode("ETC").orElseThrow().getId();
+            cafeCategoryId = categoryRepository.findByCode("CAFE").orElseThrow().getId();
+
+            User otherUser = testDataFactory.createUser("다른 사용자", "other@email.com", "rawPassword");
+            Card card = testDataFactory.createCard(CardCompanyType.HYUNDAI, "123412341234", user);
+            Card otherCard = testDataFactory.createCard(CardCompanyType.SHINHAN, "567856785678", otherUser);
+
+            transactionBulkWriter.insertIgnore(List.of(
+                    row(user.getId(), card.getId(), "merchant-1", "이디야 신촌점", CategorizationStatus.PENDING),
+                    row(user.getId(), card.getId(), "merchant-2", "이디야 역삼점", CategorizationStatus.COMPLETED),
+                    row(otherUser.getId(), otherCard.getId(), "merchant-3", "이디야 신촌점", CategorizationStatus.COMPLETED),
+                    row(otherUser.getId(), otherCard.getId(), "merchant-4", "카카오 택시", CategorizationStatus.COMPLETED)
+            ));
+        }
+
+        @Test
+        void 가맹점_키가_같은_거래_재분류_성공() throws Exception {
+            MerchantRecategorizeRequest request = new MerchantRecategorizeRequest("이디야 강남점", "CAFE");
+
+            mockMvc.perform(patch("/api/categories/merchants")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("X-Admin-Key", ADMIN_KEY)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.merchantKey").value("이디야"))
+                    .andExpect(jsonPath("$.data.categoryCode").value("CAFE"))
+                    .andExpect(jsonPath("$.data.transactionCount").value(3))
+                    .andExpect(jsonPath("$.data.affectedUserCount").value(2));
+
+            assertThat(countByMerchantKeyAndCategory("이디야", cafeCategoryId)).isEqualTo(3);
+            assertThat(countByMerchantKeyAndCategory("카카오택시", etcCategoryId)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM transactions WHERE categorization_status = 'PENDING'", Integer.class))
+                    .isZero();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT category_id FROM merchant_categories WHERE normalized_merchant_key = '이디야'", Long.class))
+                    .isEqualTo(cafeCategoryId);
+        }
+
+        @Test
+        void 존재하지_않는_카테고리_404반환() throws Exception {
+            MerchantRecategorizeRequest request = new MerchantRecategorizeRequest("이디야", "UNKNOWN");
+
+            mockMvc.perform(patch("/api/categories/merchants")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("X-Admin-Key", ADMIN_KEY)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+
+            assertThat(countByMerchantKeyAndCategory("이디야", etcCategoryId)).isEqualTo(3);
+        }
+
+        @Test
+        void 관리자_키_없음_403반환() throws Exception {
+            MerchantRecategorizeRequest request = new MerchantRecategorizeRequest("이디야", "CAFE");
+
+            mockMvc.perform(patch("/api/categories/merchants")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+
+        private TransactionRow row(Long userId, Long cardId, String merchantId, String merchantName,
+                                   CategorizationStatus categorizationStatus) {
+            return new TransactionRow(userId, cardId, etcCategoryId, categorizationStatus, merchantId, null,
+                    new BigDecimal("4500.00"), merchantName, null, LocalDateTime.of(2025, 8, 1, 10, 0),
+                    TransactionStatus.APPROVED);
+        }
+
+        private Integer countByMerchantKeyAndCategory(String merchantKey, Long categoryId) {
+            return jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM transactions WHERE normalized_merchant_key = ? AND category_id = ?",
+                    Integer.class, merchantKey, categoryId);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.budget.ai.category;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantCategoryClassifierTest {
+
+    private static final Long TRANSPORTATION = 1L;
+    private static final Long FOOD = 2L;
+    private static final Long CAFE = 4L;
+
+    private static final Map<String, Long> SAMPLES = Map.of(
+            "스타벅스 강남점", CAFE,
+            "스타벅스 역삼점", CAFE,
+            "투썸플레이스 신촌점", CAFE,
+            "카카오 택시", TRANSPORTATION,
+            "서울 시내버스", TRANSPORTATION,
+            "티머니 택시", TRANSPORTATION
+    );
+
+    @Test
+    void 학습_샘플이_최소_개수보다_적으면_예측하지_않음() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MerchantCategoryClassifier classifier = classifier(meterRegistry, 0.0, SAMPLES.size() + 1);
+
+        assertThat(classifier.predict(List.of("스타벅스 방학점", "개인 택시"))).isEmpty();
+        assertThat(count(meterRegistry, "category.classifier.fall-through")).isEqualTo(2);
+        assertThat(count(meterRegistry, "category.classifier.predicted")).isZero();
+
+        // 최소 개수를 채우면 예측
+        classifier.learn(Map.of("이디야 신촌점", CAFE), Map.of());
+
+        assertThat(classifier.predict(List.of("스타벅스 방학점")))
+                .containsKey("스타벅스 방학점");
+        assertThat(count(meterRegistry, "category.classifier.predicted")).isEqualTo(1);
+        assertThat(meterRegistry.get("category.classifier.samples").gauge().value()).isEqualTo(SAMPLES.size() + 1);
+    }
+
+    @Test
+    void 신뢰도_기준_미만_예측은_OpenAI로_넘김() {
+        double confidence = confidence("스타벅스 방학점");
+
+        MeterRegistry confidentRegistry = new SimpleMeterRegistry();
+        MerchantCategoryClassifier.Prediction confident = classifier(confidentRegistry, confidence, SAMPLES.size())
+                .predict(List.of("스타벅스 방학점"))
+                .get("스타벅스 방학점");
+
+        assertThat(confident.categoryId()).isEqualTo(CAFE);
+        assertThat(confident.confident()).isTrue();
+        assertThat(count(confidentRegistry, "category.classifier.predicted")).isEqualTo(1);
+        assertThat(count(confidentRegistry, "category.classifier.fall-through")).isZero();
+
+        // 기준이 신뢰도보다 조금이라도 높으면 예측은 남기되 OpenAI로 넘김
+        MeterRegistry strictRegistry = new SimpleMeterRegistry();
+        MerchantCategoryClassifier.Prediction fallThrough = classifier(strictRegistry, Math.nextUp(confidence), SAMPLES.size())
+                .predict(List.of("스타벅스 방학점"))
+                .get("스타벅스 방학점");
+
+        assertThat(fallThrough.categoryId()).isEqualTo(CAFE);
+        assertThat(fallThrough.confident()).isFalse();
+        assertThat(count(strictRegistry, "category.classifier.predicted")).isZero();
+        assertThat(count(strictRegistry, "category.classifier.fall-through")).isEqualTo(1);
+    }
+
+    @Test
+    void 신뢰도_미달_예측만_OpenAI_결과와_비교해_일치_건수_기록() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MerchantCategoryClassifier classifier = classifier(meterRegistry, 1.1, SAMPLES.size());
+
+        Map<String, MerchantCategoryClassifier.Prediction> predictionByName = new HashMap<>(
+                classifier.predict(List.of("스타벅스 방학점", "개인 택시")));
+        predictionByName.put("김밥천국 창동점", new MerchantCategoryClassifier.Prediction(FOOD, 0.99, true));
+
+        assertThat(predictionByName.get("스타벅스 방학점").categoryId()).isEqualTo(CAFE);
+        assertThat(predictionByName.get("개인 택시").categoryId()).isEqualTo(TRANSPORTATION);
+
+        // 스타벅스 방학점은 일치, 개인 택시는 불일치, 김밥천국은 신뢰도 기준 이상이라 비교 제외, 새 가맹점은 예측 없음
+        classifier.learn(Map.of(
+                "스타벅스 방학점", CAFE,
+                "개인 택시", FOOD,
+                "김밥천국 창동점", FOOD,
+                "새 가맹점", CAFE
+        ), predictionByName);
+
+        assertThat(count(meterRegistry, "category.classifier.compared")).isEqualTo(2);
+        assertThat(count(meterRegistry, "category.classifier.agreed")).isEqualTo(1);
+        assertThat(meterRegistry.get("category.classifier.agreement-rate").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("category.classifier.samples").gauge().value()).isEqualTo(SAMPLES.size() + 4);
+    }
+
+    /**
+     * SAMPLES 로 학습한 분류기 (재학습을 하지 않으므로 저장소 없이 생성)
+     */
+    private MerchantCategoryClassifier classifier(MeterRegistry meterRegistry, double confidenceThreshold, int minTrainingSize) {
+        MerchantCategoryClassifier classifier = new MerchantCategoryClassifier(null, null, meterRegistry,
+                confidenceThreshold, minTrainingSize, 0);
+        classifier.learn(SAMPLES, Map.of());
+
+        return classifier;
+    }
+
+    /**
+     * 같은 샘플로 학습한 모델의 신뢰도
+     */
+    private double confidence(String merchantName) {
+        MerchantNaiveBayesModel model = new MerchantNaiveBayesModel();
+        SAMPLES.forEach(model::learn);
+
+        return model.predict(merchantName).orElseThrow().confidence();
+    }
+
+    private double count(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).functionCounter().count();
+    }
+}
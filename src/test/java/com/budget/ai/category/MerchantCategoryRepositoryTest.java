@@ -4,9 +4,12 @@ import com.budget.ai.testsupport.RepositoryTest;
 import com.budget.ai.testsupport.container.TestContainerManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @RepositoryTest
@@ -20,36 +23,130 @@ class MerchantCategoryRepositoryTest {
     @Autowired
     private MerchantCategoryRepository merchantCategoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 매장_카테고리_초기_패턴_조회_성공() {
+        List<MerchantCategory> merchantCategoryList = merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED);
+
+        assertThat(merchantCategoryList)
+                .extracting(MerchantCategory::getMerchantName)
+                .contains("스타벅스", "맥도날드", "버스", "GS25", "메가박스", "홈플러스");
+    }
+
     @Test
-    void 상호명_조회_카페_성공() {
-        String merchantName = "스타벅스 강남점";
+    void 상호명_매칭_카페_성공() {
+        MerchantPatternAutomaton automaton = buildAutomaton();
 
-        MerchantCategory merchantCategory = merchantCategoryRepository.findByMerchantNameLike(merchantName)
+        MerchantPatternAutomaton.Entry entry = automaton.match("스타벅스 강남점")
                 .orElseThrow();
 
-        assertThat(merchantCategory.getMerchantName()).isEqualTo("스타벅스");
-        assertThat(merchantCategory.getCategory().getCode()).isEqualTo("CAFE");
+        assertThat(entry.pattern()).isEqualTo("스타벅스");
+        assertThat(categoryCode(entry)).isEqualTo("CAFE");
+    }
+
+    @Test
+    void 상호명_매칭_마트_성공() {
+        MerchantPatternAutomaton automaton = buildAutomaton();
+
+        MerchantPatternAutomaton.Entry entry = automaton.match("홈플러스 방학점")
+                .orElseThrow();
+
+        assertThat(entry.pattern()).isEqualTo("홈플러스");
+        assertThat(categoryCode(entry)).isEqualTo("MART");
+    }
+
+    @Test
+    void 상호명_매칭_없음() {
+        MerchantPatternAutomaton automaton = buildAutomaton();
+
+        assertThat(automaton.match("옥토퍼스 맛있다 서초역")).isEmpty();
     }
 
     @Test
-    void 상호명_조회_마트_성공() {
-        String merchantName = "홈플러스 방학점";
+    void AI_분류_결과_저장_후_조회_성공() {
+        Long categoryId = merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED).get(0)
+                .getCategory()
+                .getId();
+
+        merchantCategoryRepository.insertIfAbsent(categoryId, "옥토퍼스 맛있다", "옥토퍼스맛있다",
+                MerchantCategorySource.AI.name());
+        merchantCategoryRepository.insertIfAbsent(categoryId, "옥토퍼스 맛있다", "옥토퍼스맛있다",
+                MerchantCategorySource.AI.name());
+
+        List<MerchantCategory> learnedList = merchantCategoryRepository.findAllByMerchantKeyInAndSource(
+                List.of(MerchantNameNormalizer.toMerchantKey("옥토퍼스 맛있다 서초점")), MerchantCategorySource.AI);
 
-        MerchantCategory merchantCategory = merchantCategoryRepository.findByMerchantNameLike(merchantName)
+        assertThat(learnedList)
+                .extracting(mc -> mc.getCategory().getId())
+                .containsExactly(categoryId);
+        assertThat(merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED))
+                .extracting(MerchantCategory::getMerchantName)
+                .doesNotContain("옥토퍼스 맛있다");
+    }
+
+    @Test
+    void 같은_가맹점_키의_AI_분류_결과는_최신_행부터_조회() {
+        List<MerchantCategory> seedList = merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED);
+        Long oldCategoryId = seedList.get(0).getCategory().getId();
+        Long newCategoryId = seedList.stream()
+                .map(mc -> mc.getCategory().getId())
+                .filter(id -> !id.equals(oldCategoryId))
+                .findFirst()
                 .orElseThrow();
 
-        assertThat(merchantCategory.getMerchantName()).isEqualTo("홈플러스");
-        assertThat(merchantCategory.getCategory().getCode()).isEqualTo("MART");
+        merchantCategoryRepository.insertIfAbsent(oldCategoryId, "옥토퍼스 맛있다 서초점", "옥토퍼스맛있다",
+                MerchantCategorySource.AI.name());
+        merchantCategoryRepository.insertIfAbsent(newCategoryId, "옥토퍼스 맛있다 강남점", "옥토퍼스맛있다",
+                MerchantCategorySource.AI.name());
+
+        List<MerchantCategory> learnedList = merchantCategoryRepository.findAllByMerchantKeyInAndSource(
+                List.of("옥토퍼스맛있다"), MerchantCategorySource.AI);
+
+        assertThat(learnedList)
+                .extracting(mc -> mc.getCategory().getId())
+                .containsExactly(newCategoryId, oldCategoryId);
     }
 
     @Test
-    void 상호명_조회_없음() {
-        String merchantName = "옥토퍼스 맛있다 서초역";
+    void 가맹점_키의_카테고리_수정은_초기_패턴을_바꾸지_않음() {
+        MerchantCategory seed = merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED).stream()
+                .filter(mc -> mc.getMerchantName().equals("스타벅스"))
+                .findFirst()
+                .orElseThrow();
+        Long seedCategoryId = seed.getCategory().getId();
+        Long otherCategoryId = merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED).stream()
+                .map(mc -> mc.getCategory().getId())
+                .filter(id -> !id.equals(seedCategoryId))
+                .findFirst()
+                .orElseThrow();
+
+        jdbcTemplate.update("UPDATE merchant_categories SET normalized_merchant_key = '스타벅스' WHERE id = ?", seed.getId());
+        merchantCategoryRepository.insertIfAbsent(seedCategoryId, "스타벅스 강남점", "스타벅스", MerchantCategorySource.AI.name());
 
-        MerchantCategory merchantCategory = merchantCategoryRepository.findByMerchantNameLike(merchantName)
-                .orElse(null);
+        int updatedCount = merchantCategoryRepository.updateCategoryByMerchantKeyAndSource(otherCategoryId, "스타벅스",
+                MerchantCategorySource.AI.name());
 
-        assertThat(merchantCategory).isNull();
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT category_id FROM merchant_categories WHERE id = ?", Long.class, seed.getId()))
+                .isEqualTo(seedCategoryId);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT category_id FROM merchant_categories WHERE merchant_name = '스타벅스 강남점'", Long.class))
+                .isEqualTo(otherCategoryId);
     }
 
-}
\ No newline at end of file
+    private MerchantPatternAutomaton buildAutomaton() {
+        return MerchantPatternAutomaton.build(merchantCategoryRepository.findAllWithCategoryBySource(MerchantCategorySource.SEED).stream()
+                .map(mc -> new MerchantPatternAutomaton.Entry(mc.getId(), mc.getMerchantName(), mc.getCategory().getId()))
+                .toList());
+    }
+
+    private String categoryCode(MerchantPatternAutomaton.Entry entry) {
+        return merchantCategoryRepository.findById(entry.merchantCategoryId())
+                .orElseThrow()
+                .getCategory()
+                .getCode();
+    }
+}
@@ -0,0 +1,105 @@
+package com.budget.ai.category;
+
+import com.budget.ai.testsupport.RepositoryTest;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class MerchantCategoryResolverTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+    }
+
+    @Autowired
+    private MerchantCategoryRepository merchantCategoryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private LearnedMerchantCategoryStore learnedMerchantCategoryStore;
+    private CategoryRegistry categoryRegistry;
+
+    private Long cafeCategoryId;
+    private Long foodCategoryId;
+    private Long transportationCategoryId;
+
+    @BeforeEach
+    void setUp() {
+        learnedMerchantCategoryStore = new LearnedMerchantCategoryStore(merchantCategoryRepository, new SimpleMeterRegistry(), 100);
+        categoryRegistry = new CategoryRegistry(categoryRepository);
+
+        cafeCategoryId = categoryRegistry.findByCode("CAFE").orElseThrow().id();
+        foodCategoryId = categoryRegistry.findByCode("FOOD").orElseThrow().id();
+        transportationCategoryId = categoryRegistry.findByCode("TRANSPORTATION").orElseThrow().id();
+    }
+
+    @Test
+    void 학습된_분류_결과는_로컬_분류기보다_우선() {
+        // 같은 브랜드의 다른 지점을 다른 서버가 AI로 분류해 기록함 (이 서버의 LRU 에는 없음)
+        new LearnedMerchantCategoryStore(merchantCategoryRepository, new SimpleMeterRegistry(), 100)
+                .save(Map.of("스타벅스 창동점", foodCategoryId));
+
+        MerchantCategoryResolver.LocalResolution resolution = resolver(0.0, 1).resolveLocally(List.of("스타벅스 방학점"));
+
+        assertThat(resolution.categoryIds()).containsEntry("스타벅스 방학점", foodCategoryId);
+        assertThat(resolution.unresolvedNames()).isEmpty();
+        assertThat(resolution.predictionByName()).isEmpty();
+    }
+
+    @Test
+    void 신뢰도_기준_이상_예측만_지정하고_나머지는_OpenAI_분류_대상으로_남김() {
+        MerchantCategoryResolver.LocalResolution confident = resolver(0.0, 1).resolveLocally(List.of("스타벅스 방학점"));
+
+        assertThat(confident.categoryIds()).containsEntry("스타벅스 방학점", cafeCategoryId);
+        assertThat(confident.unresolvedNames()).isEmpty();
+
+        MerchantCategoryResolver.LocalResolution fallThrough = resolver(1.1, 1).resolveLocally(List.of("스타벅스 방학점"));
+
+        assertThat(fallThrough.categoryIds()).isEmpty();
+        assertThat(fallThrough.unresolvedNames()).containsExactly("스타벅스 방학점");
+        // 신뢰도 미달 예측은 OpenAI 결과와 비교하도록 함께 반환
+        assertThat(fallThrough.predictionByName().get("스타벅스 방학점"))
+                .satisfies(prediction -> {
+                    assertThat(prediction.categoryId()).isEqualTo(cafeCategoryId);
+                    assertThat(prediction.confident()).isFalse();
+                });
+    }
+
+    @Test
+    void 학습_샘플이_부족하면_모두_OpenAI_분류_대상() {
+        MerchantCategoryResolver.LocalResolution resolution = resolver(0.0, 100)
+                .resolveLocally(List.of("스타벅스 방학점", "개인 택시"));
+
+        assertThat(resolution.categoryIds()).isEmpty();
+        assertThat(resolution.unresolvedNames()).containsExactly("스타벅스 방학점", "개인 택시");
+        assertThat(resolution.predictionByName()).isEmpty();
+    }
+
+    /**
+     * 카페·교통 가맹점으로 학습한 로컬 분류기를 쓰는 Resolver (OpenAI 는 호출하지 않음)
+     */
+    private MerchantCategoryResolver resolver(double confidenceThreshold, int minTrainingSize) {
+        MerchantCategoryClassifier classifier = new MerchantCategoryClassifier(null, null, new SimpleMeterRegistry(),
+                confidenceThreshold, minTrainingSize, 0);
+        classifier.learn(Map.of(
+                "스타벅스 강남점", cafeCategoryId,
+                "투썸플레이스 신촌점", cafeCategoryId,
+                "카카오 택시", transportationCategoryId,
+                "티머니 택시", transportationCategoryId
+        ), Map.of());
+
+        return new MerchantCategoryResolver(learnedMerchantCategoryStore, classifier, categoryRegistry, null);
+    }
+}
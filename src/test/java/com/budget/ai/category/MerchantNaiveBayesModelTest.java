@@ -0,0 +1,65 @@
+package com.budget.ai.category;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantNaiveBayesModelTest {
+
+    private static final Long CAFE = 4L;
+    private static final Long TRANSPORTATION = 1L;
+    private static final Long FOOD = 5L;
+
+    @Test
+    void 학습_샘플_없으면_예측_불가() {
+        MerchantNaiveBayesModel model = new MerchantNaiveBayesModel();
+
+        assertThat(model.predict("스타벅스 강남점")).isEmpty();
+    }
+
+    @Test
+    void 비슷한_가맹점_이름은_같은_카테고리로_예측() {
+        MerchantNaiveBayesModel model = new MerchantNaiveBayesModel();
+        model.learn("스타벅스 강남점", CAFE);
+        model.learn("스타벅스 역삼점", CAFE);
+        model.learn("투썸플레이스 신촌점", CAFE);
+        model.learn("카카오 택시", TRANSPORTATION);
+        model.learn("서울 시내버스", TRANSPORTATION);
+        model.learn("티머니 택시", TRANSPORTATION);
+
+        assertThat(model.predict("스타벅스 방학점"))
+                .hasValueSatisfying(prediction -> {
+                    assertThat(prediction.categoryId()).isEqualTo(CAFE);
+                    assertThat(prediction.confidence()).isGreaterThan(0.5);
+                });
+        assertThat(model.predict("개인 택시"))
+                .map(MerchantNaiveBayesModel.Prediction::categoryId)
+                .contains(TRANSPORTATION);
+    }
+
+    @Test
+    void 추가_학습_결과_바로_반영() {
+        MerchantNaiveBayesModel model = new MerchantNaiveBayesModel();
+        model.learn("이디야 신촌점", CAFE);
+        model.learn("카카오 택시", TRANSPORTATION);
+
+        model.learn("김밥천국 창동점", FOOD);
+        model.learn("김밥천국 노원점", FOOD);
+
+        assertThat(model.sampleCount()).isEqualTo(4);
+        assertThat(model.predict("김밥천국 방학점"))
+                .map(MerchantNaiveBayesModel.Prediction::categoryId)
+                .contains(FOOD);
+    }
+
+    @Test
+    void 대소문자_공백_차이는_같은_특징으로_처리() {
+        MerchantNaiveBayesModel model = new MerchantNaiveBayesModel();
+        model.learn("GS25 도봉점", CAFE);
+        model.learn("kakao taxi", TRANSPORTATION);
+
+        assertThat(model.predict("  gs25   도봉점 "))
+                .map(MerchantNaiveBayesModel.Prediction::categoryId)
+                .contains(CAFE);
+    }
+}
@@ -0,0 +1,38 @@
+package com.budget.ai.category;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantNameNormalizerTest {
+
+    @Test
+    void 지점명만_다른_가맹점은_같은_키() {
+        assertThat(MerchantNameNormalizer.toMerchantKey("스타벅스 강남점")).isEqualTo("스타벅스");
+        assertThat(MerchantNameNormalizer.toMerchantKey("스타벅스  역삼2호점")).isEqualTo("스타벅스");
+        assertThat(MerchantNameNormalizer.toMerchantKey("스타벅스(신촌)")).isEqualTo("스타벅스");
+    }
+
+    @Test
+    void 대소문자_전각문자_매장번호_무시() {
+        assertThat(MerchantNameNormalizer.toMerchantKey("STARBUCKS #123")).isEqualTo("starbucks");
+        assertThat(MerchantNameNormalizer.toMerchantKey("Ｓｔａｒｂｕｃｋｓ No.7")).isEqualTo("starbucks");
+        assertThat(MerchantNameNormalizer.toMerchantKey("starbucks 0012")).isEqualTo("starbucks");
+    }
+
+    @Test
+    void 브랜드에_포함된_숫자와_한_단어_지점명은_유지() {
+        assertThat(MerchantNameNormalizer.toMerchantKey("GS25 방학점")).isEqualTo("gs25");
+        assertThat(MerchantNameNormalizer.toMerchantKey("GS25-1234")).isEqualTo("gs25");
+        assertThat(MerchantNameNormalizer.toMerchantKey("본점")).isEqualTo("본점");
+        assertThat(MerchantNameNormalizer.toMerchantKey("행복 편의점")).isEqualTo("행복편의점");
+        assertThat(MerchantNameNormalizer.toMerchantKey("카카오 택시")).isEqualTo("카카오택시");
+    }
+
+    @Test
+    void 문자가_없으면_키_없음() {
+        assertThat(MerchantNameNormalizer.toMerchantKey(null)).isNull();
+        assertThat(MerchantNameNormalizer.toMerchantKey(" #- ")).isNull();
+        assertThat(MerchantNameNormalizer.toMerchantKey("1234")).isEqualTo("1234");
+    }
+}
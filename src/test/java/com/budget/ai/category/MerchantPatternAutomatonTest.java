@@ -0,0 +1,87 @@
+package com.budget.ai.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantPatternAutomatonTest {
+
+    private static final Long CAFE = 4L;
+    private static final Long TRANSPORTATION = 1L;
+    private static final Long CONVENIENCE_STORE = 3L;
+
+    @Test
+    void 포함된_패턴_매칭() {
+        MerchantPatternAutomaton automaton = MerchantPatternAutomaton.build(List.of(
+                new MerchantPatternAutomaton.Entry(1L, "스타벅스", CAFE),
+                new MerchantPatternAutomaton.Entry(2L, "버스", TRANSPORTATION)
+        ));
+
+        assertThat(automaton.match("스타벅스 강남점"))
+                .map(MerchantPatternAutomaton.Entry::categoryId)
+                .contains(CAFE);
+        assertThat(automaton.match("마을버스 7019"))
+                .map(MerchantPatternAutomaton.Entry::categoryId)
+                .contains(TRANSPORTATION);
+    }
+
+    @Test
+    void 여러_패턴_매칭_시_가장_긴_패턴_선택() {
+        MerchantPatternAutomaton automaton = MerchantPatternAutomaton.build(List.of(
+                new MerchantPatternAutomaton.Entry(1L, "카카오", CONVENIENCE_STORE),
+                new MerchantPatternAutomaton.Entry(2L, "카카오 택시", TRANSPORTATION),
+                new MerchantPatternAutomaton.Entry(3L, "택시", TRANSPORTATION)
+        ));
+
+        assertThat(automaton.match("카카오 택시 서울"))
+                .map(MerchantPatternAutomaton.Entry::pattern)
+                .contains("카카오 택시");
+    }
+
+    @Test
+    void 길이가_같으면_먼저_시작한_패턴_선택() {
+        MerchantPatternAutomaton automaton = MerchantPatternAutomaton.build(List.of(
+                new MerchantPatternAutomaton.Entry(1L, "택시", TRANSPORTATION),
+                new MerchantPatternAutomaton.Entry(2L, "카페", CAFE)
+        ));
+
+        assertThat(automaton.match("카페 앞 택시"))
+                .map(MerchantPatternAutomaton.Entry::pattern)
+                .contains("카페");
+    }
+
+    @Test
+    void 대소문자_구분_없이_매칭() {
+        MerchantPatternAutomaton automaton = MerchantPatternAutomaton.build(List.of(
+                new MerchantPatternAutomaton.Entry(1L, "GS25", CONVENIENCE_STORE)
+        ));
+
+        assertThat(automaton.match("gs25 방학점"))
+                .map(MerchantPatternAutomaton.Entry::categoryId)
+                .contains(CONVENIENCE_STORE);
+    }
+
+    @Test
+    void 실패_링크를_따라_매칭() {
+        MerchantPatternAutomaton automaton = MerchantPatternAutomaton.build(List.of(
+                new MerchantPatternAutomaton.Entry(1L, "abcd", CAFE),
+                new MerchantPatternAutomaton.Entry(2L, "bce", TRANSPORTATION)
+        ));
+
+        assertThat(automaton.match("xabcex"))
+                .map(MerchantPatternAutomaton.Entry::pattern)
+                .contains("bce");
+    }
+
+    @Test
+    void 매칭되는_패턴_없음() {
+        MerchantPatternAutomaton automaton = MerchantPatternAutomaton.build(List.of(
+                new MerchantPatternAutomaton.Entry(1L, "스타벅스", CAFE)
+        ));
+
+        assertThat(automaton.match("옥토퍼스 맛있다 서초역")).isEmpty();
+        assertThat(MerchantPatternAutomaton.empty().match("스타벅스")).isEmpty();
+    }
+}
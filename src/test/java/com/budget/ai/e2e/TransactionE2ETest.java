@@ -3,7 +3,8 @@ package com.budget.ai.e2e;
 import com.budget.ai.auth.dto.request.LoginRequest;
 import com.budget.ai.card.dto.request.RegisterCardRequest;
 import com.budget.ai.external.transaction.dto.request.AddCardTransactionRequest;
-import com.budget.ai.transaction.TransactionService;
+import com.budget.ai.transaction.CardTransactionClient;
+import com.budget.ai.transaction.PendingCategorizationWorker;
 import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
 import com.budget.ai.user.dto.request.RegisterRequest;
 import io.restassured.RestAssured;
@@ -46,7 +47,10 @@ public class TransactionE2ETest {
     private WebClient.Builder webClientBuilder;
 
     @Autowired
-    private TransactionService transactionService;
+    private CardTransactionClient cardTransactionClient;
+
+    @Autowired
+    private PendingCategorizationWorker pendingCategorizationWorker;
 
     static MySQLContainer<?> E2E_MYSQL = new MySQLContainer<>("mysql:8.0")
             .withDatabaseName("e2edb")
@@ -81,7 +85,7 @@ public class TransactionE2ETest {
                 .baseUrl("http://localhost:" + port)
                 .build();
 
-        ReflectionTestUtils.setField(transactionService, "webClient", testServiceWebClient);
+        ReflectionTestUtils.setField(cardTransactionClient, "webClient", testServiceWebClient);
     }
 
     @AfterAll
@@ -138,7 +142,7 @@ public class TransactionE2ETest {
         // 카드 거래내역 데이터 삽입 (가짜 데이터 테스트용)
         addCardTransactionData();
 
-        // 4. 거래내역 동기화 (카드 거래내역 API 호출 및 OpenAI API 호출)
+        // 4. 거래내역 동기화 (카드 거래내역 API 호출, 미분류 가맹점은 임시 카테고리로 저장)
         TransactionSyncRequest transactionSyncRequest = new TransactionSyncRequest(LocalDate.of(
                 2025, 3, 1), LocalDate.of(2025, 8, 30));
 
@@ -160,6 +164,9 @@ public class TransactionE2ETest {
                 .when().post("/api/transaction/sync")
                 .then().log().all().statusCode(200);
 
+        // 4-2. 임시 카테고리로 저장된 분류 대기 거래 분류 (OpenAI API 호출, 백그라운드 작업 직접 실행)
+        pendingCategorizationWorker.drain();
+
         // 5. 거래내역 조회
         given().log().all()
                 .header("Authorization", "Bearer " + accessToken)
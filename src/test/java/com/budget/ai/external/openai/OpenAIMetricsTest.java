@@ -0,0 +1,50 @@
+package com.budget.ai.external.openai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAIMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAIMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new OpenAIMetrics(meterRegistry);
+    }
+
+    @Test
+    void 토큰_사용량을_호출_용도와_종류별로_누적() {
+        metrics.recordTokens(OpenAIResilience.Traffic.CLASSIFY, 120L, 30L);
+        metrics.recordTokens(OpenAIResilience.Traffic.CLASSIFY, 80L, null);
+        metrics.recordTokens(OpenAIResilience.Traffic.RECOMMEND, 500L, 200L);
+
+        assertThat(tokens("classify", "prompt")).isEqualTo(200);
+        assertThat(tokens("classify", "completion")).isEqualTo(30);
+        assertThat(tokens("recommend", "completion")).isEqualTo(200);
+    }
+
+    @Test
+    void 응답_시간과_429_응답을_호출_용도별로_기록() {
+        metrics.recordLatency(OpenAIResilience.Traffic.RECOMMEND, "success", Duration.ofMillis(800));
+        metrics.recordLatency(OpenAIResilience.Traffic.RECOMMEND, "rate_limited", Duration.ofMillis(100));
+        metrics.recordRateLimited(OpenAIResilience.Traffic.RECOMMEND);
+        metrics.recordRetry(OpenAIResilience.Traffic.RECOMMEND);
+
+        assertThat(meterRegistry.get("openai.call.latency")
+                .tag("type", "recommend").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("openai.call.rate-limited").tag("type", "recommend").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("openai.call.retries").tag("type", "recommend").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("openai.call.retries").tag("type", "classify").counter()).isNull();
+    }
+
+    private double tokens(String type, String kind) {
+        return meterRegistry.get("openai.tokens").tag("type", type).tag("kind", kind).counter().count();
+    }
+}
@@ -0,0 +1,128 @@
+package com.budget.ai.external.openai;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAIRateLimiterTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        TestContainerManager.startRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                TestContainerManager.REDIS.getHost(), TestContainerManager.REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void 여러_서버가_하나의_분당_요청_버킷을_공유() {
+        OpenAIRateLimiter firstNode = rateLimiter(stringRedisTemplate, 4, 1000, 1, 0);
+        OpenAIRateLimiter secondNode = rateLimiter(stringRedisTemplate, 4, 1000, 1, 0);
+
+        firstNode.acquire(100).block();
+        secondNode.acquire(100).block();
+        firstNode.acquire(100).block();
+        secondNode.acquire(100).block();
+
+        // 분당 4회를 모두 사용했으므로 다음 요청은 15초 뒤에야 가능 (최대 대기 100ms 초과)
+        assertThatThrownBy(() -> firstNode.acquire(100).block())
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.API_RATE_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    void 미리_받은_몫은_Redis_조회_없이_차감() {
+        OpenAIRateLimiter rateLimiter = rateLimiter(stringRedisTemplate, 10, 100_000, 3, 300);
+
+        rateLimiter.acquire(100).block();
+
+        // 1회 요청에 3회·300 토큰 몫을 미리 받음
+        assertThat(remainingRequests()).isBetween(7.0, 7.1);
+
+        rateLimiter.acquire(100).block();
+        rateLimiter.acquire(100).block();
+
+        assertThat(remainingRequests()).isBetween(7.0, 7.1);
+
+        rateLimiter.acquire(100).block();
+
+        assertThat(remainingRequests()).isBetween(4.0, 4.1);
+    }
+
+    @Test
+    void 분당_토큰_수_초과_시_요청_제한() {
+        OpenAIRateLimiter rateLimiter = rateLimiter(stringRedisTemplate, 100, 1000, 1, 0);
+
+        rateLimiter.acquire(600).block();
+
+        // 분당 1000 토큰 중 600 사용, 남은 400 으로는 600 토큰 요청 불가
+        assertThatThrownBy(() -> rateLimiter.acquire(600).block())
+                .isInstanceOf(CustomException.class);
+
+        // 실제 사용량이 추정치보다 적으면 돌려받음
+        rateLimiter.reconcile(600, 300).block();
+        rateLimiter.acquire(600).block();
+    }
+
+    @Test
+    void Redis_장애_시_서버_몫_로컬_버킷으로_제한() {
+        LettuceConnectionFactory unavailableFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(TestContainerManager.REDIS.getHost(), 1));
+        unavailableFactory.afterPropertiesSet();
+        unavailableFactory.start();
+
+        try {
+            // 전체 분당 8회를 서버 2대로 나눠 로컬 버킷은 분당 4회
+            OpenAIRateLimiter rateLimiter = rateLimiter(new StringRedisTemplate(unavailableFactory), 8, 1000, 1, 0);
+
+            for (int i = 0; i < 4; i++) {
+                rateLimiter.acquire(100).block();
+            }
+
+            assertThatThrownBy(() -> rateLimiter.acquire(100).block())
+                    .isInstanceOf(CustomException.class);
+        } finally {
+            unavailableFactory.destroy();
+        }
+    }
+
+    private OpenAIRateLimiter rateLimiter(StringRedisTemplate template, long requestsPerMinute, long tokensPerMinute,
+                                          long prefetchRequests, long prefetchTokens) {
+        return new OpenAIRateLimiter(template, requestsPerMinute, tokensPerMinute, prefetchRequests, prefetchTokens,
+                60_000, 100, 2);
+    }
+
+    private double remainingRequests() {
+        Object tokens = stringRedisTemplate.opsForHash().get("openaiRateLimit:requests", "tokens");
+
+        return Double.parseDouble(String.valueOf(tokens));
+    }
+}
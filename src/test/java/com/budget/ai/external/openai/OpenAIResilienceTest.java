@@ -0,0 +1,76 @@
+package com.budget.ai.external.openai;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAIResilienceTest {
+
+    @Test
+    void 장애가_이어지면_서킷이_열려_호출_없이_즉시_실패() {
+        OpenAIResilience resilience = new OpenAIResilience(50, 20, 30, 4, 50, 20, 30, 20);
+        AtomicInteger callCount = new AtomicInteger();
+
+        Mono<String> failingCall = Mono.defer(() -> {
+            callCount.incrementAndGet();
+            return Mono.error(new CustomException(ErrorCode.API_CALL_SERVER_ERROR));
+        });
+
+        // 최소 호출 수(10회)를 모두 실패
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, failingCall).block())
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.API_CALL_SERVER_ERROR);
+        }
+
+        assertThatThrownBy(() -> resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, failingCall).block())
+                .satisfies(ex -> assertThat(OpenAIResilience.isUnavailable(ex)).isTrue());
+        assertThat(callCount.get()).isEqualTo(10);
+
+        // 추천 용도의 서킷은 영향받지 않음
+        assertThat(resilience.decorate(OpenAIResilience.Traffic.RECOMMEND, Mono.just("추천")).block())
+                .isEqualTo("추천");
+    }
+
+    @Test
+    void 응답_형식_오류는_장애로_기록하지_않음() {
+        OpenAIResilience resilience = new OpenAIResilience(50, 20, 30, 4, 50, 20, 30, 20);
+
+        Mono<String> wrongAnswer = Mono.error(new CustomException(ErrorCode.API_CALL_WRONG_ANSWER));
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, wrongAnswer).block())
+                    .isInstanceOf(CustomException.class);
+        }
+
+        assertThat(resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, Mono.just("CAFE")).block())
+                .isEqualTo("CAFE");
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_대기_없이_실패() {
+        OpenAIResilience resilience = new OpenAIResilience(50, 20, 30, 1, 50, 20, 30, 20);
+
+        // 응답이 오지 않는 호출이 동시 호출 수를 모두 점유
+        Disposable running = resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, Mono.never()).subscribe();
+
+        try {
+            assertThatThrownBy(() -> resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, Mono.just("CAFE")).block())
+                    .satisfies(ex -> assertThat(OpenAIResilience.isUnavailable(ex)).isTrue());
+        } finally {
+            running.dispose();
+        }
+
+        // 점유가 풀리면 다시 호출 가능
+        assertThat(resilience.decorate(OpenAIResilience.Traffic.CLASSIFY, Mono.just("CAFE")).block())
+                .isEqualTo("CAFE");
+    }
+}
@@ -23,13 +23,16 @@ import org.springframework.test.web.servlet.MvcResult;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest
@@ -256,5 +259,33 @@ class CardTransactionControllerTest {
                     );
 
         }
+
+        @Test
+        void 카드_거래내역_NDJSON_스트리밍_조회() throws Exception {
+            MvcResult asyncResult = mockMvc.perform(get("/outer/transaction/stream")
+                            .param("startDate", "2025-08-01T05:10:15+09:00")
+                            .param("endDate", "2025-08-20T05:10:15+09:00")
+                            .param("cardNumber", "123412341234")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            MvcResult mvcResult = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            List<String> lineList = mvcResult.getResponse().getContentAsString().lines()
+                    .filter(line -> !line.isBlank())
+                    .toList();
+
+            List<String> merchantIdList = new ArrayList<>();
+            for (String line : lineList) {
+                merchantIdList.add(objectMapper.readValue(line, CardTransactionResponse.CardTransactionInfo.class).merchantId());
+            }
+
+            assertThat(merchantIdList)
+                    .containsExactlyInAnyOrder(ct1.getMerchantId(), ct2.getMerchantId(), ct3.getMerchantId());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.card.Card;
+import com.budget.ai.card.CardCompanyType;
+import com.budget.ai.card.CardRepository;
+import com.budget.ai.testsupport.RepositoryTest;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.user.User;
+import com.budget.ai.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+class CardSyncCursorRepositoryTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+    }
+
+    @Autowired
+    private CardSyncCursorRepository cardSyncCursorRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    private Long cardId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(
+                User.builder()
+                        .name("테스터")
+                        .email("tester@email.com")
+                        .password("rawPassword")
+                        .build()
+        );
+
+        cardId = cardRepository.save(
+                Card.builder()
+                        .cardCompanyType(CardCompanyType.HYUNDAI)
+                        .cardNumber("123412341234")
+                        .user(user)
+                        .build()
+        ).getId();
+    }
+
+    @Test
+    void 커서_전진_성공() {
+        cardSyncCursorRepository.advance(cardId, LocalDateTime.of(2025, 8, 1, 10, 0), "merchant-1");
+        cardSyncCursorRepository.advance(cardId, LocalDateTime.of(2025, 8, 2, 10, 0), "merchant-2");
+
+        List<CardSyncCursor> cursorList = cardSyncCursorRepository.findAllByCardIdIn(List.of(cardId));
+
+        assertThat(cursorList).hasSize(1);
+        assertThat(cursorList.get(0).getLastTransactionAt()).isEqualTo(LocalDateTime.of(2025, 8, 2, 10, 0));
+        assertThat(cursorList.get(0).getLastMerchantId()).isEqualTo("merchant-2");
+    }
+
+    @Test
+    void 이전_거래로는_커서가_뒤로_가지_않음() {
+        cardSyncCursorRepository.advance(cardId, LocalDateTime.of(2025, 8, 2, 10, 0), "merchant-2");
+        cardSyncCursorRepository.advance(cardId, LocalDateTime.of(2025, 8, 1, 10, 0), "merchant-1");
+
+        List<CardSyncCursor> cursorList = cardSyncCursorRepository.findAllByCardIdIn(List.of(cardId));
+
+        assertThat(cursorList.get(0).getLastTransactionAt()).isEqualTo(LocalDateTime.of(2025, 8, 2, 10, 0));
+        assertThat(cursorList.get(0).getLastMerchantId()).isEqualTo("merchant-2");
+    }
+}
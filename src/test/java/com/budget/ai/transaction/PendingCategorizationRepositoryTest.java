@@ -0,0 +1,129 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.card.Card;
+import com.budget.ai.card.CardCompanyType;
+import com.budget.ai.card.CardRepository;
+import com.budget.ai.category.CategoryRepository;
+import com.budget.ai.testsupport.RepositoryTest;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.TransactionRow;
+import com.budget.ai.user.User;
+import com.budget.ai.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTest
+@Import({PendingCategorizationRepository.class, TransactionBulkWriter.class})
+class PendingCategorizationRepositoryTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+    }
+
+    @Autowired
+    private PendingCategorizationRepository pendingCategorizationRepository;
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long cardId;
+    private Long etcCategoryId;
+    private Long cafeCategoryId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(
+                User.builder()
+                        .name("테스터")
+                        .email("tester@email.com")
+                        .password("rawPassword")
+                        .build()
+        );
+
+        Card card = cardRepository.save(
+                Card.builder()
+                        .cardCompanyType(CardCompanyType.HYUNDAI)
+                        .cardNumber("123412341234")
+                        .user(user)
+                        .build()
+        );
+
+        userId = user.getId();
+        cardId = card.getId();
+        etcCategoryId = categoryRepository.findByCode("ETC").orElseThrow().getId();
+        cafeCategoryId = categoryRepository.findByCode("CAFE").orElseThrow().getId();
+
+        transactionBulkWriter.insertIgnore(List.of(
+                row("merchant-1", "이디야 신촌점", CategorizationStatus.PENDING, LocalDateTime.of(2025, 8, 1, 10, 0)),
+                row("merchant-2", "이디야 신촌점", CategorizationStatus.PENDING, LocalDateTime.of(2025, 8, 2, 10, 0)),
+                row("merchant-3", "카카오 택시", CategorizationStatus.PENDING, LocalDateTime.of(2025, 8, 3, 10, 0)),
+                row("merchant-4", "스타벅스 강남점", CategorizationStatus.COMPLETED, LocalDateTime.of(2025, 8, 4, 10, 0))
+        ));
+    }
+
+    @Test
+    void 분류_대기_가맹점_중복_없이_조회() {
+        List<String> merchantNames = pendingCategorizationRepository.findPendingMerchantNames(10);
+
+        assertThat(merchantNames).containsExactlyInAnyOrder("이디야 신촌점", "카카오 택시");
+        assertThat(pendingCategorizationRepository.findPendingUserIds(merchantNames)).containsExactly(userId);
+    }
+
+    @Test
+    void 가맹점_단위_분류_완료_처리() {
+        int updatedCount = pendingCategorizationRepository.complete(cafeCategoryId, List.of("이디야 신촌점"));
+
+        assertThat(updatedCount).isEqualTo(2);
+        assertThat(countByStatusAndCategory(CategorizationStatus.COMPLETED, cafeCategoryId)).isEqualTo(3);
+        assertThat(countByStatusAndCategory(CategorizationStatus.PENDING, etcCategoryId)).isEqualTo(1);
+        assertThat(pendingCategorizationRepository.findPendingMerchantNames(10)).containsExactly("카카오 택시");
+    }
+
+    @Test
+    void 분류하지_못한_가맹점은_분류_실패_처리() {
+        int updatedCount = pendingCategorizationRepository.fallback(etcCategoryId, List.of("카카오 택시"));
+
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(countByStatusAndCategory(CategorizationStatus.FALLBACK, etcCategoryId)).isEqualTo(1);
+        assertThat(pendingCategorizationRepository.findPendingMerchantNames(10)).containsExactly("이디야 신촌점");
+    }
+
+    private TransactionRow row(String merchantId, String merchantName, CategorizationStatus categorizationStatus,
+                               LocalDateTime transactionAt) {
+        Long categoryId = categorizationStatus == CategorizationStatus.PENDING ? etcCategoryId : cafeCategoryId;
+
+        return new TransactionRow(userId, cardId, categoryId, categorizationStatus, merchantId, null,
+                new BigDecimal("4500.00"), merchantName, null, transactionAt, TransactionStatus.APPROVED);
+    }
+
+    private Integer countByStatusAndCategory(CategorizationStatus categorizationStatus, Long categoryId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE card_id = ? AND categorization_status = ? AND category_id = ?",
+                Integer.class, cardId, categorizationStatus.name(), categoryId);
+    }
+}
@@ -0,0 +1,184 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.response.CategorySavingResponse;
+import com.budget.ai.transaction.dto.response.SumCategoryTransactionResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendSavingCacheTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private TransactionCacheGeneration transactionCacheGeneration;
+
+    @BeforeAll
+    static void setUpRedis() {
+        TestContainerManager.startRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                TestContainerManager.REDIS.getHost(), TestContainerManager.REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        transactionCacheGeneration = new TransactionCacheGeneration(stringRedisTemplate);
+        loadCount.set(0);
+    }
+
+    @Test
+    void 금액이_같은_구간이면_캐시된_추천_재사용() {
+        RecommendSavingCache cache = recommendSavingCache();
+
+        CategorySavingResponse first = cache.getOrLoad(1L, statistic("51000", "49000"), loader()).block();
+        CategorySavingResponse second = cache.getOrLoad(1L, statistic("52000", "48000"), loader()).block();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+
+        // 금액 구간이 바뀌면 새로 생성
+        cache.getOrLoad(1L, statistic("80000", "20000"), loader()).block();
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 거래_데이터가_바뀌면_캐시_무효화() {
+        RecommendSavingCache cache = recommendSavingCache();
+
+        cache.getOrLoad(1L, statistic("52000", "48000"), loader()).block();
+        transactionCacheGeneration.bump(1L);
+        cache.getOrLoad(1L, statistic("52000", "48000"), loader()).block();
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 동시_캐시_미스는_한_번만_호출() {
+        RecommendSavingCache firstNode = recommendSavingCache();
+        RecommendSavingCache secondNode = recommendSavingCache();
+
+        List<CategorySavingResponse> responseList = Flux.range(0, 6)
+                .flatMap(i -> (i % 2 == 0 ? firstNode : secondNode)
+                        .getOrLoad(1L, statistic("52000", "48000"), loader()))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responseList).hasSize(6);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_스트리밍_캐시_미스는_한_번만_호출() {
+        RecommendSavingCache firstNode = recommendSavingCache();
+        RecommendSavingCache secondNode = recommendSavingCache();
+
+        List<List<CategorySavingResponse.SavingInfo>> streamedList = Flux.range(0, 6)
+                .flatMap(i -> (i % 2 == 0 ? firstNode : secondNode)
+                        .getOrStream(1L, statistic("52000", "48000"), streamLoader())
+                        .collectList())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(streamedList).hasSize(6)
+                .allSatisfy(savingInfoList -> assertThat(savingInfoList).hasSize(2).isEqualTo(streamedList.get(0)));
+
+        // 일반 조회도 스트리밍이 기록한 추천을 재사용
+        CategorySavingResponse response = firstNode.getOrLoad(1L, statistic("52000", "48000"), loader()).block();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(response.savingInfoList()).isEqualTo(streamedList.get(0));
+    }
+
+    @Test
+    void 회원의_최근_추천_조회() {
+        RecommendSavingCache cache = recommendSavingCache();
+
+        assertThat(cache.findLatest(1L).block()).isNull();
+
+        CategorySavingResponse response = cache.getOrLoad(1L, statistic("52000", "48000"), loader()).block();
+        transactionCacheGeneration.bump(1L);
+
+        // 세대가 올라가도 최근 추천은 대체 응답용으로 남아 있음
+        assertThat(cache.findLatest(1L).block()).isEqualTo(response);
+        assertThat(cache.findLatest(2L).block()).isNull();
+    }
+
+    private RecommendSavingCache recommendSavingCache() {
+        return new RecommendSavingCache(new RedisLease(stringRedisTemplate), redisTemplate, transactionCacheGeneration,
+                10000, 5, 10, 24, 10, 5, 20);
+    }
+
+    private Supplier<Mono<CategorySavingResponse>> loader() {
+        return () -> Mono.delay(Duration.ofMillis(300))
+                .map(tick -> CategorySavingResponse.of(new ArrayList<>(List.of(
+                        new CategorySavingResponse.SavingInfo("카페", "추천 " + loadCount.incrementAndGet())))));
+    }
+
+    private Supplier<Flux<CategorySavingResponse.SavingInfo>> streamLoader() {
+        return () -> Flux.defer(() -> {
+            int count = loadCount.incrementAndGet();
+
+            return Flux.just(
+                    new CategorySavingResponse.SavingInfo("카페", "추천 " + count),
+                    new CategorySavingResponse.SavingInfo("음식", "추천 " + count)
+            ).delayElements(Duration.ofMillis(150));
+        });
+    }
+
+    private SumCategoryTransactionResponse statistic(String cafeAmount, String foodAmount) {
+        BigDecimal cafe = new BigDecimal(cafeAmount);
+        BigDecimal food = new BigDecimal(foodAmount);
+        BigDecimal total = cafe.add(food);
+
+        return new SumCategoryTransactionResponse(List.of(
+                new SumCategoryTransactionResponse.SumCategoryInfo(4L, "카페", cafe, 3L, ratio(cafe, total)),
+                new SumCategoryTransactionResponse.SumCategoryInfo(2L, "음식", food, 2L, ratio(food, total))
+        ), total);
+    }
+
+    private BigDecimal ratio(BigDecimal amount, BigDecimal total) {
+        return amount.multiply(BigDecimal.valueOf(100)).divide(total, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,69 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.testsupport.container.TestContainerManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisLeaseTest {
+
+    private static final String KEY = "testLease";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RedisLease redisLease;
+
+    @BeforeAll
+    static void setUpRedis() {
+        TestContainerManager.startRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                TestContainerManager.REDIS.getHost(), TestContainerManager.REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        redisLease = new RedisLease(stringRedisTemplate);
+    }
+
+    @Test
+    void 다른_토큰이_잡은_lease는_획득_해제_연장_불가() {
+        assertThat(redisLease.acquire(KEY, "token-1", Duration.ofSeconds(10))).isTrue();
+
+        assertThat(redisLease.acquire(KEY, "token-2", Duration.ofSeconds(10))).isFalse();
+        assertThat(redisLease.extend(KEY, "token-2", Duration.ofSeconds(60))).isFalse();
+        assertThat(redisLease.release(KEY, "token-2")).isFalse();
+        assertThat(redisLease.holder(KEY)).isEqualTo("token-1");
+
+        assertThat(redisLease.release(KEY, "token-1")).isTrue();
+        assertThat(redisLease.holder(KEY)).isNull();
+    }
+
+    @Test
+    void 연장하면_유지_시간이_새로_적용() {
+        redisLease.acquire(KEY, "token-1", Duration.ofSeconds(10));
+
+        assertThat(redisLease.extend(KEY, "token-1", Duration.ofSeconds(60))).isTrue();
+        assertThat(stringRedisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isGreaterThan(10);
+    }
+}
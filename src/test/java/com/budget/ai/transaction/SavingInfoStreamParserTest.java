@@ -0,0 +1,48 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.transaction.dto.response.CategorySavingResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SavingInfoStreamParserTest {
+
+    @Test
+    void 카테고리와_절약_방법_쌍이_완성될_때마다_반환() {
+        SavingInfoStreamParser parser = new SavingInfoStreamParser(new JsonFactory());
+
+        assertThat(parser.feed("{\"교")).isEmpty();
+        assertThat(parser.feed("통\":\"택시 대신 ")).isEmpty();
+        assertThat(parser.feed("버스 이용\", \"카페\"")).containsExactly(
+                new CategorySavingResponse.SavingInfo("교통", "택시 대신 버스 이용"));
+        assertThat(parser.feed(":\"텀블러 \\\"할인\\\" 활용\"}")).containsExactly(
+                new CategorySavingResponse.SavingInfo("카페", "텀블러 \"할인\" 활용"));
+
+        parser.finish();
+    }
+
+    @Test
+    void 객체_앞뒤의_마크다운_블록은_무시() {
+        SavingInfoStreamParser parser = new SavingInfoStreamParser(new JsonFactory());
+
+        assertThat(parser.feed("```json\n")).isEmpty();
+        List<CategorySavingResponse.SavingInfo> savingInfoList = parser.feed("{\"편의점\":\"간식 구매 줄이기\"}\n```");
+
+        assertThat(savingInfoList).containsExactly(new CategorySavingResponse.SavingInfo("편의점", "간식 구매 줄이기"));
+        parser.finish();
+    }
+
+    @Test
+    void 객체가_닫히지_않고_끝나면_파싱_오류() {
+        SavingInfoStreamParser parser = new SavingInfoStreamParser(new JsonFactory());
+
+        parser.feed("{\"교통\":\"택시 대신 버스 이용\"");
+
+        assertThatThrownBy(parser::finish).isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncJobRepositoryTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private SyncJobRepository syncJobRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        TestContainerManager.startRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                TestContainerManager.REDIS.getHost(), TestContainerManager.REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        syncJobRepository = new SyncJobRepository(redisTemplate, 60);
+    }
+
+    @Test
+    void 상태별_작업을_저장하고_그대로_조회() {
+        SyncJob queued = SyncJob.queued("job-1", 1L);
+        SyncJob running = queued.started(List.of(1L, 2L))
+                .cardFetched(1L, 12, null)
+                .cardFetched(2L, 0, ErrorCode.API_CALL_TIMEOUT.getCode());
+        SyncJob completed = running.completed(new TransactionSyncResponse(1, 10, 2, 3, List.of()));
+        SyncJob failed = running.failed(ErrorCode.INTERNAL_ERROR.getCode());
+
+        for (SyncJob syncJob : List.of(queued, running, completed, failed)) {
+            syncJobRepository.save(syncJob);
+
+            assertThat(syncJobRepository.findById("job-1")).contains(syncJob);
+        }
+    }
+
+    @Test
+    void 작업_상태는_TTL과_함께_저장되고_없는_작업은_empty() {
+        syncJobRepository.save(SyncJob.queued("job-1", 1L));
+
+        assertThat(stringRedisTemplate.getExpire("syncJob:job-1", TimeUnit.SECONDS)).isBetween(1L, 3600L);
+        assertThat(syncJobRepository.findById("unknown-job")).isEmpty();
+    }
+}
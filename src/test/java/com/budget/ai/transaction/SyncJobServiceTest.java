@@ -0,0 +1,193 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.response.CustomException;
+import com.budget.ai.response.ErrorCode;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
+import com.budget.ai.transaction.dto.response.SyncJobResponse;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncJobServiceTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final TransactionSyncRequest request = new TransactionSyncRequest(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 30));
+
+    /** 동기화 도중 조회한 작업 상태 */
+    private final List<SyncJobResponse> observedList = new ArrayList<>();
+
+    private SyncJobRepository syncJobRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        TestContainerManager.startRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                TestContainerManager.REDIS.getHost(), TestContainerManager.REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        syncJobRepository = new SyncJobRepository(redisTemplate, 60);
+        observedList.clear();
+    }
+
+    @Test
+    void 등록된_작업은_진행_후_완료로_기록() {
+        SyncJobService syncJobService = syncJobService((listener, jobId) -> {
+            observedList.add(find(jobId));
+
+            listener.onStarted(new ArrayList<>(List.of(1L, 2L)));
+            observedList.add(find(jobId));
+
+            listener.onCardFetched(1L, 12, null);
+            listener.onCardFetched(2L, 0, ErrorCode.API_CALL_TIMEOUT.getCode());
+            observedList.add(find(jobId));
+
+            return new TransactionSyncResponse(1, 10, 2, 3, List.of(
+                    new TransactionSyncResponse.FailedCard(2L, ErrorCode.API_CALL_TIMEOUT.getCode())));
+        });
+
+        SyncJobResponse submitted = syncJobService.submit(1L, request);
+
+        assertThat(submitted.status()).isEqualTo(SyncJobStatus.QUEUED);
+
+        // 1. 등록 직후 → 카드 확정 → 카드별 조회 완료
+        assertThat(observedList).extracting(SyncJobResponse::status)
+                .containsExactly(SyncJobStatus.QUEUED, SyncJobStatus.RUNNING, SyncJobStatus.RUNNING);
+        assertThat(observedList.get(1).cardProgressList())
+                .extracting(SyncJobResponse.CardProgress::status)
+                .containsExactly(SyncJobStatus.RUNNING, SyncJobStatus.RUNNING);
+        assertThat(observedList.get(2).cardProgressList()).containsExactly(
+                new SyncJobResponse.CardProgress(1L, SyncJobStatus.COMPLETED, 12, null),
+                new SyncJobResponse.CardProgress(2L, SyncJobStatus.FAILED, 0, ErrorCode.API_CALL_TIMEOUT.getCode()));
+
+        // 2. 동기화 완료
+        SyncJobResponse completed = syncJobService.getJob(1L, submitted.jobId());
+
+        assertThat(completed.status()).isEqualTo(SyncJobStatus.COMPLETED);
+        assertThat(completed.insertedCount()).isEqualTo(10);
+        assertThat(completed.skippedCount()).isEqualTo(2);
+        assertThat(completed.classifiedCount()).isEqualTo(3);
+        assertThat(completed.cardProgressList()).isEqualTo(observedList.get(2).cardProgressList());
+        assertThat(completed.errorCode()).isNull();
+    }
+
+    @Test
+    void 동기화가_실패하면_오류_코드와_함께_실패로_기록() {
+        SyncJobService customFailure = syncJobService((listener, jobId) -> {
+            listener.onStarted(new ArrayList<>(List.of(1L)));
+            throw new CustomException(ErrorCode.API_CALL_UNAVAILABLE);
+        });
+        SyncJobService unexpectedFailure = syncJobService((listener, jobId) -> {
+            throw new IllegalStateException("unexpected");
+        });
+
+        SyncJobResponse failed = customFailure.getJob(1L, customFailure.submit(1L, request).jobId());
+        SyncJobResponse internalFailed = unexpectedFailure.getJob(1L, unexpectedFailure.submit(1L, request).jobId());
+
+        assertThat(failed.status()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(failed.errorCode()).isEqualTo(ErrorCode.API_CALL_UNAVAILABLE.getCode());
+        // 실패 전까지의 카드별 진행 상황은 유지
+        assertThat(failed.cardProgressList()).extracting(SyncJobResponse.CardProgress::cardId).containsExactly(1L);
+
+        assertThat(internalFailed.status()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(internalFailed.errorCode()).isEqualTo(ErrorCode.INTERNAL_ERROR.getCode());
+    }
+
+    @Test
+    void 다른_회원의_작업은_조회_불가() {
+        SyncJobService syncJobService = syncJobService((listener, jobId) -> new TransactionSyncResponse(0, 0, 0, 0, List.of()));
+
+        SyncJobResponse submitted = syncJobService.submit(1L, request);
+
+        assertThatThrownBy(() -> syncJobService.getJob(2L, submitted.jobId()))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> {
+                    CustomException exception = (CustomException) ex;
+
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SYNC_JOB_NOT_FOUND);
+                });
+        assertThatThrownBy(() -> syncJobService.getJob(1L, "unknown-job"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> {
+                    CustomException exception = (CustomException) ex;
+
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SYNC_JOB_NOT_FOUND);
+                });
+    }
+
+    private SyncJobResponse find(String jobId) {
+        return syncJobRepository.findById(jobId).map(SyncJob::toResponse).orElseThrow();
+    }
+
+    /**
+     * 실제 동기화 대신 sync 를 실행하는 작업 Service (작업은 호출 스레드에서 바로 실행)
+     */
+    private SyncJobService syncJobService(FakeSync sync) {
+        TransactionService transactionService = new TransactionService(null, null, null, null, null, null, null, null,
+                null, null, null, null, 4, 200, SyncFailurePolicy.FAIL_FAST, 10, true) {
+            @Override
+            public TransactionSyncResponse syncTransaction(Long userId, TransactionSyncRequest request,
+                                                           SyncProgressListener listener) {
+                return sync.run(listener, lastJobId());
+            }
+        };
+
+        return new SyncJobService(transactionService, syncJobRepository, new SyncTaskExecutor());
+    }
+
+    /**
+     * 실행 중인 작업 ID (작업은 순서대로 실행되므로 아직 QUEUED 로 기록된 작업은 하나뿐)
+     */
+    private String lastJobId() {
+        return stringRedisTemplate.keys("syncJob:*").stream()
+                .map(key -> key.substring("syncJob:".length()))
+                .filter(jobId -> syncJobRepository.findById(jobId)
+                        .filter(syncJob -> syncJob.status() == SyncJobStatus.QUEUED)
+                        .isPresent())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @FunctionalInterface
+    private interface FakeSync {
+        TransactionSyncResponse run(SyncProgressListener listener, String jobId);
+    }
+}
@@ -0,0 +1,156 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncSingleFlightTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final TransactionSyncRequest request = new TransactionSyncRequest(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 30));
+    private final TransactionSyncResponse response = new TransactionSyncResponse(1, 3, 0, 0, List.of());
+
+    private SyncSingleFlight syncSingleFlight;
+
+    @BeforeAll
+    static void setUpRedis() {
+        TestContainerManager.startRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                TestContainerManager.REDIS.getHost(), TestContainerManager.REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        syncSingleFlight = new SyncSingleFlight(new RedisLease(stringRedisTemplate), redisTemplate, 10, 30, 10, 50);
+    }
+
+    @Test
+    void 동시_요청은_한_번만_실행하고_결과_공유() throws Exception {
+        AtomicInteger executionCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<TransactionSyncResponse>> futureList = new ArrayList<>();
+
+        try {
+            futureList.add(executor.submit(() -> syncSingleFlight.execute(1L, request, () -> {
+                executionCount.incrementAndGet();
+                started.countDown();
+                await(release);
+                return response;
+            })));
+
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 3; i++) {
+                futureList.add(executor.submit(() -> syncSingleFlight.execute(1L, request, () -> {
+                    executionCount.incrementAndGet();
+                    return response;
+                })));
+            }
+
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<TransactionSyncResponse> future : futureList) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executionCount).hasValue(1);
+    }
+
+    @Test
+    void 다른_서버가_실행_중이면_그_결과를_반환() {
+        String flightKey = "1:" + request.startDate() + ":" + request.endDate() + ":" + request.syncMode();
+        stringRedisTemplate.opsForValue().set("syncLease:" + flightKey, "other-node-token");
+        redisTemplate.opsForValue().set("syncResult:" + flightKey + ":other-node-token", response);
+
+        AtomicInteger executionCount = new AtomicInteger();
+
+        TransactionSyncResponse result = syncSingleFlight.execute(1L, request, () -> {
+            executionCount.incrementAndGet();
+            return new TransactionSyncResponse(0, 0, 0, 0, List.of());
+        });
+
+        assertThat(result).isEqualTo(response);
+        assertThat(executionCount).hasValue(0);
+    }
+
+    @Test
+    void 다른_서버_lease가_결과_없이_해제되면_직접_실행() {
+        String flightKey = "1:" + request.startDate() + ":" + request.endDate() + ":" + request.syncMode();
+        stringRedisTemplate.opsForValue().set("syncLease:" + flightKey, "failed-node-token");
+
+        new Thread(() -> {
+            sleep(200);
+            stringRedisTemplate.delete("syncLease:" + flightKey);
+        }).start();
+
+        TransactionSyncResponse result = syncSingleFlight.execute(1L, request, () -> response);
+
+        assertThat(result).isEqualTo(response);
+        assertThat(stringRedisTemplate.hasKey("syncLease:" + flightKey)).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.card.Card;
+import com.budget.ai.card.CardCompanyType;
+import com.budget.ai.card.CardRepository;
+import com.budget.ai.category.CategoryRepository;
+import com.budget.ai.testsupport.RepositoryTest;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.TransactionRow;
+import com.budget.ai.user.User;
+import com.budget.ai.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RepositoryTest
+@Import(TransactionBulkWriter.class)
+class TransactionBulkWriterTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+        registry.add("transaction.sync.insert-batch-size", () -> 2);
+    }
+
+    @Autowired
+    private TransactionBulkWriter transactionBulkWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long cardId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(
+                User.builder()
+                        .name("테스터")
+                        .email("tester@email.com")
+                        .password("rawPassword")
+                        .build()
+        );
+
+        Card card = cardRepository.save(
+                Card.builder()
+                        .cardCompanyType(CardCompanyType.HYUNDAI)
+                        .cardNumber("123412341234")
+                        .user(user)
+                        .build()
+        );
+
+        userId = user.getId();
+        cardId = card.getId();
+        categoryId = categoryRepository.findByCode("CAFE").orElseThrow().getId();
+    }
+
+    @Test
+    void 거래내역_일괄_저장_성공() {
+        List<TransactionRow> rowList = List.of(
+                row("merchant-1", LocalDateTime.of(2025, 8, 1, 10, 0)),
+                row("merchant-2", LocalDateTime.of(2025, 8, 2, 10, 0)),
+                row("merchant-3", LocalDateTime.of(2025, 8, 3, 10, 0))
+        );
+
+        TransactionBulkWriter.WriteResult result = transactionBulkWriter.insertIgnore(rowList);
+
+        assertThat(result.insertedCount()).isEqualTo(3);
+        assertThat(result.skippedCount()).isZero();
+        assertThat(countTransactions()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT DISTINCT normalized_merchant_key FROM transactions WHERE card_id = ?", String.class, cardId))
+                .containsExactly("스타벅스");
+    }
+
+    @Test
+    void 중복_거래는_건너뛰고_건수_집계() {
+        transactionBulkWriter.insertIgnore(List.of(
+                row("merchant-1", LocalDateTime.of(2025, 8, 1, 10, 0))
+        ));
+
+        TransactionBulkWriter.WriteResult result = transactionBulkWriter.insertIgnore(List.of(
+                row("merchant-1", LocalDateTime.of(2025, 8, 1, 10, 0)),
+                row("merchant-2", LocalDateTime.of(2025, 8, 2, 10, 0))
+        ));
+
+        assertThat(result.insertedCount()).isEqualTo(1);
+        assertThat(result.skippedCount()).isEqualTo(1);
+        assertThat(countTransactions()).isEqualTo(2);
+    }
+
+    @Test
+    void 중복이_아닌_경고가_있으면_건너뛰지_않고_실패() {
+        TransactionRow unknownCardRow = new TransactionRow(userId, Long.MAX_VALUE, categoryId, CategorizationStatus.COMPLETED,
+                "merchant-1", null, new BigDecimal("4500.00"), "스타벅스 강남점", null,
+                LocalDateTime.of(2025, 8, 1, 10, 0), TransactionStatus.APPROVED);
+
+        assertThatThrownBy(() -> transactionBulkWriter.insertIgnore(List.of(unknownCardRow)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private TransactionRow row(String merchantId, LocalDateTime transactionAt) {
+        return new TransactionRow(userId, cardId, categoryId, CategorizationStatus.COMPLETED, merchantId, null,
+                new BigDecimal("4500.00"), "스타벅스 강남점", null, transactionAt, TransactionStatus.APPROVED);
+    }
+
+    private Integer countTransactions() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions WHERE card_id = ?", Integer.class, cardId);
+    }
+}
@@ -0,0 +1,119 @@
+package com.budget.ai.transaction;
+
+import com.budget.ai.card.Card;
+import com.budget.ai.card.CardCompanyType;
+import com.budget.ai.testsupport.TestDataFactory;
+import com.budget.ai.testsupport.container.TestContainerManager;
+import com.budget.ai.transaction.dto.request.TransactionSyncRequest;
+import com.budget.ai.transaction.dto.response.TransactionSyncResponse;
+import com.budget.ai.user.User;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동기화 중 원격 호출을 기다리는 동안 커넥션을 점유하지 않는지 검증
+ * <p>
+ *     트랜잭션 롤백 방식으로는 점유 여부를 확인할 수 없으므로 실제 커밋 후 직접 정리한다.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class TransactionSyncConnectionTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        TestContainerManager.registerMySQL(registry);
+        TestContainerManager.startRedis();
+        TestContainerManager.registerRedis(registry);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CardTransactionClient cardTransactionClient;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Object originalWebClient;
+    private User user;
+    private final List<Integer> activeConnectionsDuringCall = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = testDataFactory.createUser("커넥션테스터", "connection-tester@email.com", "rawPassword");
+        testDataFactory.createCard(CardCompanyType.HYUNDAI, "909080807070", user);
+
+        // 카드 API 호출 시점의 활성 커넥션 수를 기록하는 가짜 응답
+        WebClient stubWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    activeConnectionsDuringCall.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                            .body("""
+                                    {"merchantId":"pool-merchant-1","amount":4500.00,"merchantName":"스타벅스 강남점","transactionAt":"2025-08-01T10:00:00Z","cardTransactionStatus":"APPROVED"}
+                                    {"merchantId":"pool-merchant-2","amount":8900.00,"merchantName":"맥도날드 방학점","transactionAt":"2025-08-02T12:00:00Z","cardTransactionStatus":"APPROVED"}
+                                    """)
+                            .build());
+                })
+                .build();
+
+        originalWebClient = ReflectionTestUtils.getField(cardTransactionClient, "webClient");
+        ReflectionTestUtils.setField(cardTransactionClient, "webClient", stubWebClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(cardTransactionClient, "webClient", originalWebClient);
+
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM cards WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void 카드_API_호출_중_커넥션_미점유() {
+        TransactionSyncResponse response = transactionService.syncTransaction(
+                user.getId(),
+                new TransactionSyncRequest(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 8, 30)),
+                SyncProgressListener.NONE
+        );
+
+        assertThat(response.insertedCount()).isEqualTo(2);
+        assertThat(activeConnectionsDuringCall)
+                .isNotEmpty()
+                .allMatch(activeConnections -> activeConnections == 0);
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+}